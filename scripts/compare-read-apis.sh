@@ -0,0 +1,16 @@
+#!/bin/bash
+
+# Runs the HTTP load test twice with a read-only mix at a high connection count, once
+# against the blocking API and once against the reactive (R2DBC) API, and prints both
+# summaries. Extra arguments are passed to both runs.
+
+set -e
+cd "$(dirname "$0")/.."
+
+MIX="filter:50,getById:40,statistics:10"
+ARGS="--tasks=20000 --concurrency=500 --warmup=PT20S --duration=PT60S --mix=$MIX $*"
+
+for READS in blocking reactive; do
+    echo "=== $READS reads ==="
+    mvn -q -Pload-test verify -Dload.args="$ARGS --reads=$READS --output=target/load-test/$READS"
+done
@@ -0,0 +1,20 @@
+#!/bin/bash
+
+# Runs the HTTP load test twice, once on Tomcat's platform threads and once on virtual
+# threads, with a mix weighted towards the expensive endpoints, and prints both summaries.
+# Virtual threads need Java 21 or later. Extra arguments are passed to both runs.
+
+set -e
+cd "$(dirname "$0")/.."
+
+MIX="search:30,statistics:20,filter:20,getById:30"
+ARGS="--tasks=20000 --concurrency=200 --warmup=PT20S --duration=PT60S --mix=$MIX $*"
+
+for MODE in platform virtual; do
+    PROFILE_ARG=""
+    if [ "$MODE" = "virtual" ]; then
+        PROFILE_ARG="--spring.profiles.include=virtual-threads"
+    fi
+    echo "=== $MODE threads ==="
+    mvn -q -Pload-test verify -Dload.args="$ARGS --output=target/load-test/$MODE $PROFILE_ARG"
+done
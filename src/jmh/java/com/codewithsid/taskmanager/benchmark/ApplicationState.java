@@ -0,0 +1,45 @@
+package com.codewithsid.taskmanager.benchmark;
+
+import com.codewithsid.taskmanager.TaskManagerApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * The application context against embedded H2 with its sample data, started once per
+ * benchmark fork. Web server, service discovery and SQL logging are switched off so they
+ * do not show up in the measurements.
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(TaskManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "eureka.client.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.codewithsid.taskmanager=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN")
+                .run();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
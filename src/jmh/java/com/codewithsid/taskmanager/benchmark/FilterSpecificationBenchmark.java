@@ -0,0 +1,74 @@
+package com.codewithsid.taskmanager.benchmark;
+
+import com.codewithsid.taskmanager.dto.TaskFilter;
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.specification.TaskSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The specification built by {@code TaskService.filterTasks}: composing it, and turning it
+ * into a Hibernate criteria query as Spring Data does on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterSpecificationBenchmark {
+
+    private TaskFilter filter;
+    private EntityManager entityManager;
+
+    @Setup
+    public void setUp(ApplicationState application) {
+        filter = TaskFilter.builder()
+                .title("api")
+                .status(Task.TaskStatus.TODO)
+                .priority(Task.Priority.HIGH)
+                .category("Development")
+                .assignedTo("john.doe@example.com")
+                .createdAfter(LocalDateTime.now().minusMonths(1))
+                .dueBefore(LocalDate.now().plusWeeks(2))
+                .build();
+        entityManager = application.getBean(EntityManagerFactory.class).createEntityManager();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+    }
+
+    @Benchmark
+    public Specification<Task> buildSpecification() {
+        return TaskSpecification.fromFilter(filter);
+    }
+
+    @Benchmark
+    public CriteriaQuery<Task> buildCriteriaQuery() {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        return query.where(TaskSpecification.fromFilter(filter).toPredicate(root, query, cb));
+    }
+}
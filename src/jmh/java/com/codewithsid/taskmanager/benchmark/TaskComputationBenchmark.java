@@ -0,0 +1,53 @@
+package com.codewithsid.taskmanager.benchmark;
+
+import com.codewithsid.taskmanager.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The derived properties computed on every serialization of a task.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskComputationBenchmark {
+
+    private Task openTask;
+    private Task taskWithoutDueDate;
+
+    @Setup
+    public void setUp() {
+        openTask = TaskFixtures.task(4);
+        openTask.setStatus(Task.TaskStatus.TODO);
+        taskWithoutDueDate = TaskFixtures.task(5);
+        taskWithoutDueDate.setDueDate(null);
+    }
+
+    @Benchmark
+    public boolean isOverdue() {
+        return openTask.isOverdue();
+    }
+
+    @Benchmark
+    public long daysUntilDue() {
+        return openTask.getDaysUntilDue();
+    }
+
+    @Benchmark
+    public long daysUntilDueWithoutDueDate() {
+        return taskWithoutDueDate.getDaysUntilDue();
+    }
+}
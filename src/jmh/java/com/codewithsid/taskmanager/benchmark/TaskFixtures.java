@@ -0,0 +1,42 @@
+package com.codewithsid.taskmanager.benchmark;
+
+import com.codewithsid.taskmanager.model.Task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class TaskFixtures {
+
+    private TaskFixtures() {
+    }
+
+    static Task task(long id) {
+        LocalDateTime created = LocalDateTime.of(2024, 1, 10, 9, 0);
+        return Task.builder()
+                .id(id)
+                .title("Complete API documentation " + id)
+                .description("Write comprehensive API documentation with examples for every endpoint, "
+                        + "covering pagination, filtering, bulk operations and error handling.")
+                .dueDate(LocalDate.now().plusDays(id % 30 - 10))
+                .status(Task.TaskStatus.values()[(int) (id % Task.TaskStatus.values().length)])
+                .priority(Task.Priority.values()[(int) (id % Task.Priority.values().length)])
+                .category("Documentation")
+                .assignedTo("john.doe@example.com")
+                .estimatedHours(8)
+                .createdAt(created)
+                .updatedAt(created.plusHours(id))
+                .createdBy("admin@example.com")
+                .version(3L)
+                .build();
+    }
+
+    static List<Task> tasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            tasks.add(task(i));
+        }
+        return tasks;
+    }
+}
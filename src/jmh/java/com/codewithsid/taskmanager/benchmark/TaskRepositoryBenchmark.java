@@ -0,0 +1,78 @@
+package com.codewithsid.taskmanager.benchmark;
+
+import com.codewithsid.taskmanager.dto.TaskFilter;
+import com.codewithsid.taskmanager.dto.TaskSummary;
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.repository.TaskRepository;
+import com.codewithsid.taskmanager.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository and service reads against embedded H2 with the sample data set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskRepositoryBenchmark {
+
+    private static final Pageable PAGE = PageRequest.of(0, 20, Sort.by("createdAt").descending());
+
+    private TaskRepository taskRepository;
+    private TaskService taskService;
+    private Long taskId;
+    private TaskFilter filter;
+
+    @Setup
+    public void setUp(ApplicationState application) {
+        taskRepository = application.getBean(TaskRepository.class);
+        taskService = application.getBean(TaskService.class);
+        taskId = taskRepository.findAll(PageRequest.of(0, 1)).getContent().get(0).getId();
+        filter = TaskFilter.builder().status(Task.TaskStatus.TODO).build();
+    }
+
+    @Benchmark
+    public Optional<Task> findById() {
+        return taskRepository.findById(taskId);
+    }
+
+    @Benchmark
+    public List<Task> findByStatus() {
+        return taskRepository.findByStatus(Task.TaskStatus.TODO);
+    }
+
+    @Benchmark
+    public List<Task> findOverdueTasks() {
+        return taskRepository.findOverdueTasks(LocalDate.now());
+    }
+
+    @Benchmark
+    public Page<Task> filterTasks() {
+        return taskService.filterTasks(filter, PAGE);
+    }
+
+    @Benchmark
+    public Page<TaskSummary> filterTaskSummaries() {
+        return taskService.filterTaskSummaries(filter, PAGE);
+    }
+}
@@ -0,0 +1,104 @@
+package com.codewithsid.taskmanager.benchmark;
+
+import com.codewithsid.taskmanager.model.Task;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoding and decoding a {@code /filter} page of tasks in each wire format the API can
+ * negotiate: JSON, gzipped JSON (server.compression), CBOR and Smile. The encoded size of
+ * each format is printed during setup, so one run answers both bytes on the wire and CPU
+ * time per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskWireFormatBenchmark {
+
+    @Param({"json", "json-gzip", "cbor", "smile"})
+    private String format;
+
+    @Param({"100", "1000"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private boolean gzip;
+    private Page<Task> page;
+    private byte[] encoded;
+
+    // The fields a client reads back from the page envelope
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record PageBody(List<Task> content, long totalElements, int totalPages, int number, int size) {
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+        gzip = format.equals("json-gzip");
+        page = new PageImpl<>(TaskFixtures.tasks(pageSize), PageRequest.of(0, pageSize), 10_000);
+        encoded = encode();
+        System.out.printf("%n%s page of %d tasks: %d bytes%n", format, pageSize, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        if (!gzip) {
+            return objectMapper.writeValueAsBytes(page);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, page);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public PageBody decode() throws IOException {
+        if (!gzip) {
+            return objectMapper.readValue(encoded, PageBody.class);
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(encoded))) {
+            return objectMapper.readValue(in, PageBody.class);
+        }
+    }
+}
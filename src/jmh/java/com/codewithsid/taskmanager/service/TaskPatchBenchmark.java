@@ -0,0 +1,49 @@
+package com.codewithsid.taskmanager.service;
+
+import com.codewithsid.taskmanager.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing and applying the field updates of {@link TaskService#patchTask(Long, Map)},
+ * without the database round trip around it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskPatchBenchmark {
+
+    private Map<String, Object> updates;
+
+    @Setup
+    public void setUp() {
+        updates = new LinkedHashMap<>();
+        updates.put("title", "Patched title");
+        updates.put("status", "COMPLETED");
+        updates.put("priority", "HIGH");
+        updates.put("dueDate", "2030-06-30");
+        updates.put("estimatedHours", 12);
+    }
+
+    @Benchmark
+    public Task applyPatch() {
+        Task task = new Task();
+        TaskPatch.parse(updates, false).applyTo(task);
+        return task;
+    }
+}
@@ -0,0 +1,80 @@
+package com.codewithsid.taskmanager.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line options of the load test, given as {@code --name=value}. Arguments that are
+ * not load test options are passed on to the application when it is started in-process,
+ * e.g. {@code --spring.profiles.active=docker} to run against PostgreSQL.
+ */
+record LoadTestOptions(
+        String baseUrl,
+        int seedTasks,
+        int concurrency,
+        double rate,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        String outputDirectory,
+        boolean reactiveReads,
+        String[] applicationArgs) {
+
+    static final String DEFAULT_MIX = "filter:30,getById:30,patch:10,complete:5,statistics:10,search:15";
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String name = arg.startsWith("--") && separator > 2 ? arg.substring(2, separator) : null;
+            if (name != null && !name.contains(".")) {
+                options.put(name, arg.substring(separator + 1));
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+
+        return new LoadTestOptions(
+                options.get("base-url"),
+                Integer.parseInt(options.getOrDefault("tasks", "10000")),
+                Integer.parseInt(options.getOrDefault("concurrency", "32")),
+                Double.parseDouble(options.getOrDefault("rate", "0")),
+                Duration.parse(options.getOrDefault("warmup", "PT15S")),
+                Duration.parse(options.getOrDefault("duration", "PT60S")),
+                parseMix(options.getOrDefault("mix", DEFAULT_MIX)),
+                options.getOrDefault("output", "target/load-test"),
+                parseReads(options.getOrDefault("reads", "blocking")),
+                applicationArgs.toArray(String[]::new));
+    }
+
+    private static boolean parseReads(String reads) {
+        return switch (reads) {
+            case "blocking" -> false;
+            case "reactive" -> true;
+            default -> throw new IllegalArgumentException("--reads is blocking or reactive, not: " + reads);
+        };
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mix entries look like getById:30, not: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1]);
+            if (weight > 0) {
+                weights.put(Operation.fromName(parts[0]), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The mix must give at least one operation a positive weight");
+        }
+        return weights;
+    }
+}
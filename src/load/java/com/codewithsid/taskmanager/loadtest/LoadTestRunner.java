@@ -0,0 +1,222 @@
+package com.codewithsid.taskmanager.loadtest;
+
+import com.codewithsid.taskmanager.TaskManagerApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * HTTP load test of the task API. Starts the application in-process (unless
+ * {@code --base-url} points at a running instance), seeds tasks, then replays a weighted
+ * mix of TaskController calls from {@code --concurrency} workers and reports throughput
+ * and latency percentiles per operation.
+ *
+ * <p>Without {@code --rate} every worker sends its next request as soon as the previous one
+ * returns. With {@code --rate} (requests per second, all workers together) requests follow
+ * a fixed schedule and latency is measured from the scheduled start, so a stalled server
+ * shows up in the percentiles instead of silently lowering the request rate.
+ *
+ * <p>With {@code --reads=reactive} the reads mirrored by the reactive API (filter, getById,
+ * statistics) go to {@code /api/v1/reactive/tasks}, so both stacks can be compared under the
+ * same mix and connection count.
+ *
+ * <p>Results go to {@code --output}: a summary, a percentile distribution ({@code .hgrm})
+ * per operation, and one HdrHistogram log with a tagged histogram per operation for
+ * comparing runs over time.
+ */
+public class LoadTestRunner {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final String REACTIVE_PATH = "/api/v1/reactive/tasks";
+
+    private final LoadTestOptions options;
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> failures = new EnumMap<>(Operation.class);
+    private final Operation[] schedule;
+
+    private volatile boolean running = true;
+
+    LoadTestRunner(LoadTestOptions options) {
+        this.options = options;
+        List<Operation> weighted = new ArrayList<>();
+        options.mix().forEach((operation, weight) -> {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_NANOS, 3));
+            failures.put(operation, new LongAdder());
+            for (int i = 0; i < weight; i++) {
+                weighted.add(operation);
+            }
+        });
+        this.schedule = weighted.toArray(Operation[]::new);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ConfigurableApplicationContext application = null;
+        String baseUrl = options.baseUrl();
+        if (baseUrl == null) {
+            application = startApplication(options.applicationArgs());
+            baseUrl = "http://localhost:" + application.getEnvironment().getProperty("local.server.port")
+                    + "/api/v1/tasks";
+        }
+
+        try {
+            new LoadTestRunner(options).run(baseUrl);
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext startApplication(String[] args) {
+        // Passed as command line arguments so they override application.properties
+        List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--eureka.client.enabled=false",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.codewithsid.taskmanager=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+        arguments.addAll(List.of(args));
+        return new SpringApplicationBuilder(TaskManagerApplication.class).run(arguments.toArray(String[]::new));
+    }
+
+    void run(String baseUrl) throws Exception {
+        System.out.printf("Seeding %d tasks at %s%n", options.seedTasks(), baseUrl);
+        List<Long> taskIds = new TaskSeeder(client, new ObjectMapper()).seed(baseUrl, options.seedTasks());
+        String readBaseUrl = options.reactiveReads() ? baseUrl.replace("/api/v1/tasks", REACTIVE_PATH) : baseUrl;
+
+        ExecutorService workers = Executors.newFixedThreadPool(options.concurrency());
+        long start = System.nanoTime();
+        for (int i = 0; i < options.concurrency(); i++) {
+            workers.execute(() -> work(baseUrl, readBaseUrl, taskIds, start));
+        }
+
+        System.out.printf("Warming up for %s with %d workers%n", options.warmup(), options.concurrency());
+        Thread.sleep(options.warmup().toMillis());
+        recorders.values().forEach(Recorder::reset);
+        failures.values().forEach(LongAdder::reset);
+
+        System.out.printf("Measuring for %s%n", options.duration());
+        long measureStart = System.currentTimeMillis();
+        Thread.sleep(options.duration().toMillis());
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) -> histograms.put(operation, recorder.getIntervalHistogram()));
+        long measureEnd = System.currentTimeMillis();
+
+        running = false;
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.MINUTES);
+        report(histograms, measureStart, measureEnd);
+    }
+
+    private void work(String baseUrl, String readBaseUrl, List<Long> taskIds, long start) {
+        long interval = options.rate() > 0 ? (long) (1e9 * options.concurrency() / options.rate()) : 0;
+        long intendedStart = start + (interval > 0 ? ThreadLocalRandom.current().nextLong(interval) : 0);
+
+        while (running) {
+            if (interval > 0) {
+                LockSupport.parkNanos(intendedStart - System.nanoTime());
+            } else {
+                intendedStart = System.nanoTime();
+            }
+
+            Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+            try {
+                HttpResponse<Void> response = client.send(
+                        operation.request(operation.isReactiveRead() ? readBaseUrl : baseUrl, taskIds),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() >= 400) {
+                    failures.get(operation).increment();
+                }
+            } catch (IOException ex) {
+                failures.get(operation).increment();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long latency = System.nanoTime() - intendedStart;
+            recorders.get(operation).recordValue(Math.min(latency, HIGHEST_TRACKABLE_NANOS));
+            intendedStart += interval;
+        }
+    }
+
+    private void report(Map<Operation, Histogram> histograms, long measureStart, long measureEnd) throws IOException {
+        File directory = new File(options.outputDirectory(),
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        if (!directory.mkdirs()) {
+            throw new IOException("Cannot create " + directory);
+        }
+        double seconds = (measureEnd - measureStart) / 1000.0;
+
+        try (PrintStream summary = new PrintStream(new FileOutputStream(new File(directory, "summary.txt")));
+             PrintStream log = new PrintStream(new FileOutputStream(new File(directory, "latency.hlog")))) {
+            HistogramLogWriter logWriter = new HistogramLogWriter(log);
+            logWriter.outputStartTime(measureStart);
+            logWriter.outputLogFormatVersion();
+            logWriter.outputLegend();
+
+            String header = String.format("%-12s %10s %10s %8s %10s %10s %10s %10s",
+                    "operation", "requests", "req/s", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+            print(summary, header);
+            long total = 0;
+            for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+                Operation operation = entry.getKey();
+                Histogram histogram = entry.getValue();
+                total += histogram.getTotalCount();
+                print(summary, String.format("%-12s %10d %10.1f %8d %10.2f %10.2f %10.2f %10.2f",
+                        operation.displayName(), histogram.getTotalCount(), histogram.getTotalCount() / seconds,
+                        failures.get(operation).sum(), millis(histogram.getValueAtPercentile(50)),
+                        millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                        millis(histogram.getMaxValue())));
+
+                histogram.setStartTimeStamp(measureStart);
+                histogram.setEndTimeStamp(measureEnd);
+                histogram.setTag(operation.displayName());
+                logWriter.outputIntervalHistogram(histogram);
+                try (PrintStream distribution = new PrintStream(new FileOutputStream(
+                        new File(directory, operation.displayName() + ".hgrm")))) {
+                    histogram.outputPercentileDistribution(distribution, NANOS_PER_MILLI);
+                }
+            }
+            print(summary, String.format("%-12s %10d %10.1f", "total", total, total / seconds));
+        }
+        System.out.println("Results written to " + directory);
+    }
+
+    private static void print(PrintStream summary, String line) {
+        System.out.println(line);
+        summary.println(line);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,97 @@
+package com.codewithsid.taskmanager.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The TaskController calls replayed by the load test. Reads that ReactiveTaskController
+ * mirrors can be sent to the reactive API instead.
+ */
+enum Operation {
+    FILTER("filter", true) {
+        @Override
+        HttpRequest request(String baseUrl, List<Long> taskIds) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            return get(baseUrl + "/filter?status=" + pick(STATUSES) + "&priority=" + pick(PRIORITIES)
+                    + "&page=" + random.nextInt(5) + "&size=20");
+        }
+    },
+    GET_BY_ID("getById", true) {
+        @Override
+        HttpRequest request(String baseUrl, List<Long> taskIds) {
+            return get(baseUrl + "/" + pick(taskIds));
+        }
+    },
+    PATCH("patch", false) {
+        @Override
+        HttpRequest request(String baseUrl, List<Long> taskIds) {
+            // Reopens tasks so that complete keeps finding tasks to complete
+            String body = "{\"status\":\"IN_PROGRESS\",\"priority\":\"" + pick(PRIORITIES) + "\"}";
+            return json(baseUrl + "/" + pick(taskIds), "PATCH", body);
+        }
+    },
+    COMPLETE("complete", false) {
+        @Override
+        HttpRequest request(String baseUrl, List<Long> taskIds) {
+            return json(baseUrl + "/" + pick(taskIds) + "/complete", "PATCH", "");
+        }
+    },
+    STATISTICS("statistics", true) {
+        @Override
+        HttpRequest request(String baseUrl, List<Long> taskIds) {
+            return get(baseUrl + "/statistics");
+        }
+    },
+    SEARCH("search", false) {
+        @Override
+        HttpRequest request(String baseUrl, List<Long> taskIds) {
+            return get(baseUrl + "/search?query=" + pick(TaskSeeder.WORDS) + "&size=20");
+        }
+    };
+
+    private static final List<String> STATUSES = List.of("TODO", "IN_PROGRESS", "ON_HOLD", "COMPLETED");
+    private static final List<String> PRIORITIES = List.of("LOW", "MEDIUM", "HIGH", "URGENT");
+
+    private final String displayName;
+    private final boolean reactiveRead;
+
+    Operation(String displayName, boolean reactiveRead) {
+        this.displayName = displayName;
+        this.reactiveRead = reactiveRead;
+    }
+
+    String displayName() {
+        return displayName;
+    }
+
+    boolean isReactiveRead() {
+        return reactiveRead;
+    }
+
+    abstract HttpRequest request(String baseUrl, List<Long> taskIds);
+
+    static Operation fromName(String name) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.displayName.equalsIgnoreCase(name.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation: " + name));
+    }
+
+    private static <T> T pick(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    private static HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).GET().build();
+    }
+
+    private static HttpRequest json(String uri, String method, String body) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
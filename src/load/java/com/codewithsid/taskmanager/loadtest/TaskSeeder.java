@@ -0,0 +1,75 @@
+package com.codewithsid.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Creates the tasks the load test works on through the batch endpoint.
+ */
+class TaskSeeder {
+
+    static final List<String> WORDS = List.of("api", "database", "migration", "review", "deploy", "report",
+            "dashboard", "security", "invoice", "onboarding", "backup", "release", "testing", "design");
+
+    private static final int BATCH_SIZE = 1000;
+    private static final List<String> CATEGORIES = List.of("Development", "Operations", "Documentation", "Design");
+    private static final List<String> PEOPLE = List.of("alice", "bob", "carol", "dave", "erin", "frank");
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final Random random = new Random(42);
+
+    TaskSeeder(HttpClient client, ObjectMapper objectMapper) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+    }
+
+    List<Long> seed(String baseUrl, int count) throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>(count);
+        for (int offset = 0; offset < count; offset += BATCH_SIZE) {
+            List<Map<String, Object>> batch = new ArrayList<>();
+            for (int i = offset; i < Math.min(count, offset + BATCH_SIZE); i++) {
+                batch.add(task(i));
+            }
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/batch"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(batch)))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Seeding failed with status " + response.statusCode() + ": "
+                        + response.body());
+            }
+            for (JsonNode item : objectMapper.readTree(response.body()).path("items")) {
+                if (item.hasNonNull("id")) {
+                    ids.add(item.get("id").asLong());
+                }
+            }
+        }
+        return ids;
+    }
+
+    private Map<String, Object> task(int index) {
+        String first = WORDS.get(random.nextInt(WORDS.size()));
+        String second = WORDS.get(random.nextInt(WORDS.size()));
+        return Map.of(
+                "title", "Load " + index + " " + first + " " + second,
+                "description", "Seeded task about " + first + " and " + second + " for load testing",
+                "priority", List.of("LOW", "MEDIUM", "HIGH", "URGENT").get(random.nextInt(4)),
+                "category", CATEGORIES.get(random.nextInt(CATEGORIES.size())),
+                "assignedTo", PEOPLE.get(random.nextInt(PEOPLE.size())),
+                "dueDate", LocalDate.now().plusDays(1 + random.nextInt(60)).toString(),
+                "estimatedHours", 1 + random.nextInt(40));
+    }
+}
@@ -0,0 +1,69 @@
+package com.codewithsid.taskmanager.archive;
+
+import com.codewithsid.taskmanager.service.TaskService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Moves completed and cancelled tasks that have not changed for {@code task.archive.min-age}
+ * out of the active set, on the {@code task.archive.cron} schedule. Each batch of
+ * {@code task.archive.batch-size} tasks is archived in its own transaction, so a large
+ * backlog never holds locks on more than one batch at a time.
+ *
+ * <p>Archived tasks are counted in {@code task.archive.archived}.
+ */
+@Component
+@Slf4j
+public class TaskArchiver {
+
+    private final TaskService taskService;
+    private final boolean enabled;
+    private final Duration minAge;
+    private final int batchSize;
+    private final Counter archivedCounter;
+
+    public TaskArchiver(TaskService taskService, MeterRegistry meterRegistry,
+                        @Value("${task.archive.enabled:true}") boolean enabled,
+                        @Value("${task.archive.min-age:P90D}") Duration minAge,
+                        @Value("${task.archive.batch-size:1000}") int batchSize) {
+        this.taskService = taskService;
+        this.enabled = enabled;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+        this.archivedCounter = Counter.builder("task.archive.archived")
+                .description("Terminal tasks moved to the archive")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${task.archive.cron:0 30 0 * * *}")
+    public void archiveOnSchedule() {
+        if (enabled) {
+            archive();
+        }
+    }
+
+    /**
+     * Archives every eligible task, batch by batch, and returns how many were archived.
+     */
+    public long archive() {
+        long start = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        long total = 0;
+        int archived;
+        do {
+            archived = taskService.archiveTasks(cutoff, batchSize);
+            archivedCounter.increment(archived);
+            total += archived;
+        } while (archived == batchSize);
+        log.info("Archived {} tasks last updated before {} in {} ms", total, cutoff,
+                System.currentTimeMillis() - start);
+        return total;
+    }
+}
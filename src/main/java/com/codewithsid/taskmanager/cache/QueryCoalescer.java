@@ -0,0 +1,138 @@
+package com.codewithsid.taskmanager.cache;
+
+import com.codewithsid.taskmanager.event.TaskChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Shares one execution of a parameterless read between all callers that ask for it at
+ * the same time, and optionally keeps the result for a short window afterwards.
+ *
+ * <p>Any {@link TaskChangedEvent} starts a new generation, both when the change is made
+ * and after it commits, like {@link TaskCacheInvalidator}. Callers arriving after that no
+ * longer join a read started before it, and a read that overlapped a change is not kept.
+ * Results are shared between callers and must not be modified.
+ *
+ * <p>Every call is counted in {@code task.query.coalescing}, tagged with the query and
+ * where the result came from: {@code database}, {@code in-flight} or {@code micro-cache}.
+ */
+@Component
+public class QueryCoalescer {
+
+    private final Map<String, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Result> recent = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long cacheWindowNanos;
+
+    public QueryCoalescer(MeterRegistry meterRegistry,
+                          @Value("${task.coalescing.enabled:true}") boolean enabled,
+                          @Value("${task.coalescing.cache-window:250ms}") Duration cacheWindow) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.cacheWindowNanos = cacheWindow.toNanos();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String query, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        long currentGeneration = generation.get();
+        Result result = recent.get(query);
+        if (result != null && result.generation == currentGeneration
+                && System.nanoTime() - result.loadedAt < cacheWindowNanos) {
+            count(query, "micro-cache");
+            return (T) result.value;
+        }
+
+        Flight flight = new Flight(currentGeneration);
+        Flight existing = inFlight.putIfAbsent(query, flight);
+        if (existing != null && existing.generation == currentGeneration) {
+            count(query, "in-flight");
+            return (T) join(existing.future);
+        }
+        if (existing != null) {
+            inFlight.replace(query, existing, flight);
+        }
+
+        count(query, "database");
+        try {
+            T value = loader.get();
+            flight.future.complete(value);
+            if (cacheWindowNanos > 0 && generation.get() == currentGeneration) {
+                recent.put(query, new Result(value, currentGeneration, System.nanoTime()));
+            }
+            return value;
+        } catch (RuntimeException | Error ex) {
+            flight.future.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(query, flight);
+        }
+    }
+
+    @EventListener
+    public void onTaskChanging(TaskChangedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        invalidate();
+    }
+
+    private void invalidate() {
+        generation.incrementAndGet();
+        recent.clear();
+    }
+
+    private void count(String query, String source) {
+        Counter.builder("task.query.coalescing")
+                .description("Coalesced reads by the source of their result")
+                .tag("query", query)
+                .tag("source", source)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static final class Flight {
+
+        private final long generation;
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        private Flight(long generation) {
+            this.generation = generation;
+        }
+    }
+
+    private record Result(Object value, long generation, long loadedAt) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.codewithsid.taskmanager.cache;
+
+import com.codewithsid.taskmanager.config.CacheConfig;
+import com.codewithsid.taskmanager.event.TaskChangedEvent;
+import com.codewithsid.taskmanager.model.Task;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Evicts cached tasks on every {@link TaskChangedEvent}, which all mutation paths publish,
+ * bulk ones included, and fills the cache on reads.
+ *
+ * <p>The entry is evicted twice: when the change is made and again after it commits. A
+ * reader may load the old row before the commit and store it after both evictions. Every
+ * eviction therefore bumps a stamp for the task's id, and a loaded task is dropped again if
+ * the stamp moved while it was loaded. Ids share stamps by hash, so an unrelated eviction
+ * only costs a cache fill.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskCacheInvalidator {
+
+    private static final int STAMP_STRIPES = 1024;
+
+    private final CacheManager cacheManager;
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_STRIPES);
+
+    @EventListener
+    public void onTaskChanging(TaskChangedEvent event) {
+        evict(event.getTaskId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        evict(event.getTaskId());
+    }
+
+    /**
+     * Returns the cached task, or loads and caches it. The loaded task stays cached only if
+     * the task was not evicted while it loaded.
+     */
+    public Task get(Long taskId, Supplier<Task> loader) {
+        Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        if (cache == null) {
+            return loader.get();
+        }
+        Task cached = cache.get(taskId, Task.class);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = stamps.get(stripe(taskId));
+        Task task = loader.get();
+        cache.put(taskId, task);
+        // An eviction bumps the stamp before it evicts, so it either sees this entry or is
+        // seen here
+        if (stamps.get(stripe(taskId)) != stamp) {
+            cache.evict(taskId);
+        }
+        return task;
+    }
+
+    private void evict(Long taskId) {
+        stamps.incrementAndGet(stripe(taskId));
+        Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        if (cache != null) {
+            cache.evict(taskId);
+        }
+    }
+
+    private static int stripe(Long taskId) {
+        return Long.hashCode(taskId) & (STAMP_STRIPES - 1);
+    }
+}
@@ -0,0 +1,24 @@
+package com.codewithsid.taskmanager.concurrency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits how many requests to the annotated handler, together with every other handler of
+ * the same bulkhead, run at once. The limit is {@code task.bulkhead.<name>.max-concurrent}.
+ *
+ * @see BulkheadInterceptor
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkhead {
+
+    /**
+     * Name of the bulkhead shared by all handlers of one endpoint class.
+     */
+    String value();
+}
@@ -0,0 +1,94 @@
+package com.codewithsid.taskmanager.concurrency;
+
+import com.codewithsid.taskmanager.exception.TaskException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enforces {@link Bulkhead} limits in front of the connection pool, so a burst of expensive
+ * requests (search, statistics, listings) cannot hold every connection while point lookups,
+ * which have no bulkhead, wait behind them. A request waits up to
+ * {@code task.bulkhead.max-wait} for a permit and is rejected with 503 otherwise.
+ */
+@Component
+public class BulkheadInterceptor implements HandlerInterceptor {
+
+    private static final int DEFAULT_MAX_CONCURRENT = 4;
+    private static final String PERMIT_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".permit";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Duration maxWait;
+    private final Map<String, Semaphore> semaphores = new ConcurrentHashMap<>();
+
+    public BulkheadInterceptor(Environment environment, MeterRegistry meterRegistry,
+                               @Value("${task.bulkhead.max-wait:200ms}") Duration maxWait) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.maxWait = maxWait;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        Bulkhead bulkhead = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), Bulkhead.class);
+        if (bulkhead == null) {
+            bulkhead = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), Bulkhead.class);
+        }
+        if (bulkhead == null) {
+            return true;
+        }
+
+        String name = bulkhead.value();
+        Semaphore semaphore = semaphores.computeIfAbsent(name, this::createSemaphore);
+        if (!semaphore.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+            Counter.builder("task.bulkhead.rejected")
+                    .description("Requests rejected because their bulkhead was full")
+                    .tag("bulkhead", name)
+                    .register(meterRegistry)
+                    .increment();
+            throw TaskException.serviceUnavailable("Too many concurrent " + name + " requests, please retry");
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, semaphore);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object permit = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit instanceof Semaphore semaphore) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            semaphore.release();
+        }
+    }
+
+    private Semaphore createSemaphore(String name) {
+        int maxConcurrent = environment.getProperty("task.bulkhead." + name + ".max-concurrent",
+                Integer.class, DEFAULT_MAX_CONCURRENT);
+        Semaphore semaphore = new Semaphore(maxConcurrent, true);
+        Gauge.builder("task.bulkhead.available", semaphore, Semaphore::availablePermits)
+                .description("Free permits of the bulkhead")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        return semaphore;
+    }
+}
@@ -0,0 +1,73 @@
+package com.codewithsid.taskmanager.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier thread, typically while
+ * blocking inside a {@code synchronized} block of a driver or library, for longer than
+ * {@code task.threads.pinning-threshold}. Pinned threads hold a carrier and can starve
+ * the other virtual threads. Listens to the JFR {@code jdk.VirtualThreadPinned} event,
+ * logs the top of the stack and counts occurrences in {@code task.threads.pinned}.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "task.threads.pinning-detector.enabled", matchIfMissing = true)
+@Slf4j
+public class VirtualThreadPinningDetector {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Counter pinnedCounter;
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningDetector(MeterRegistry meterRegistry,
+                                        @Value("${task.threads.pinning-threshold:20ms}") Duration threshold) {
+        this.pinnedCounter = Counter.builder("task.threads.pinned")
+                .description("Virtual threads pinned to their carrier longer than the threshold")
+                .register(meterRegistry);
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Reporting virtual threads pinned longer than {}", threshold);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        String frames = event.getStackTrace() == null ? "unknown" : event.getStackTrace().getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(RecordedFrame::getMethod)
+                .map(method -> method.getType().getName() + "." + method.getName())
+                .collect(Collectors.joining("\n\tat ", "\n\tat ", ""));
+        log.warn("Virtual thread pinned for {} ms{}", event.getDuration().toMillis(), frames);
+    }
+}
@@ -0,0 +1,11 @@
+package com.codewithsid.taskmanager.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String TASKS_CACHE = "tasks";
+}
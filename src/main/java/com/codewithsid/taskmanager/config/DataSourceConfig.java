@@ -0,0 +1,51 @@
+package com.codewithsid.taskmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Declares the JDBC data source explicitly. Spring Boot backs off its own data source as
+ * soon as an R2DBC connection factory exists, which the reactive read API adds; JPA,
+ * Flyway and the blocking API keep using this pool. {@code data.sql} is run over JDBC as
+ * before rather than over R2DBC.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * A few autocommit connections to the primary for the dictionary and workload rows that
+     * are written outside the caller's transaction. They come from a pool of their own, so a
+     * caller holding the last connection of the main pool never waits on itself.
+     */
+    @Bean(defaultCandidate = false)
+    public HikariDataSource autocommitDataSource(DataSourceProperties properties,
+                                                 @Value("${task.autocommit-pool.max-size:2}") int maxPoolSize) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName("autocommit");
+        pool.setMaximumPoolSize(maxPoolSize);
+        pool.setAutoCommit(true);
+        return pool;
+    }
+
+    @Bean
+    public SqlDataSourceScriptDatabaseInitializer dataSourceScriptDatabaseInitializer(DataSource dataSource,
+                                                                                     SqlInitializationProperties properties) {
+        return new SqlDataSourceScriptDatabaseInitializer(dataSource, properties);
+    }
+}
@@ -0,0 +1,33 @@
+package com.codewithsid.taskmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica pools behind {@code task.replicas.*}. The default lag query reports how
+ * many seconds a PostgreSQL standby is behind, or 0 if it has replayed everything it has
+ * received.
+ */
+@Data
+@ConfigurationProperties("task.replicas")
+public class ReplicaProperties {
+
+    private boolean enabled;
+    private List<Instance> instances = new ArrayList<>();
+    private int maxPoolSize = 10;
+    private Duration maxLag = Duration.ofSeconds(5);
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+    private String lagQuery = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    @Data
+    public static class Instance {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
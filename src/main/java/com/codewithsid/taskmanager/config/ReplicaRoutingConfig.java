@@ -0,0 +1,65 @@
+package com.codewithsid.taskmanager.config;
+
+import com.codewithsid.taskmanager.routing.ReadYourWrites;
+import com.codewithsid.taskmanager.routing.Replica;
+import com.codewithsid.taskmanager.routing.ReplicaLagMonitor;
+import com.codewithsid.taskmanager.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Puts a routing data source in front of the primary pool when
+ * {@code task.replicas.enabled} is set. JPA, Flyway and {@code data.sql} all use the
+ * routing data source; outside read-only transactions it always hands out primary
+ * connections.
+ */
+@Configuration
+@ConditionalOnProperty(name = "task.replicas.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaRoutingConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource dataSource, ReplicaProperties properties,
+                                                             MeterRegistry meterRegistry) {
+        List<Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getInstances().size(); i++) {
+            ReplicaProperties.Instance instance = properties.getInstances().get(i);
+            HikariDataSource pool = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(instance.getUrl())
+                    .username(instance.getUsername())
+                    .password(instance.getPassword())
+                    .build();
+            String name = "replica-" + i;
+            pool.setPoolName(name);
+            pool.setReadOnly(true);
+            pool.setMaximumPoolSize(properties.getMaxPoolSize());
+            replicas.add(new Replica(name, pool));
+        }
+        return new ReplicaRoutingDataSource(dataSource, replicas,
+                new ReadYourWrites(properties.getReadYourWritesWindow()), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource routingDataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                               ReplicaProperties properties) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource, properties.getLagQuery(), properties.getMaxLag());
+    }
+}
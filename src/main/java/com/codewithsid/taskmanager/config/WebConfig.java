@@ -1,13 +1,23 @@
 package com.codewithsid.taskmanager.config;
 
+import com.codewithsid.taskmanager.concurrency.BulkheadInterceptor;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final BulkheadInterceptor bulkheadInterceptor;
+
     @Value("${cors.allowed-origins:http://localhost:3000,http://localhost:4200}")
     private String allowedOriginsString;
 
@@ -44,4 +54,17 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(allowCredentials)
                 .maxAge(3600);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(bulkheadInterceptor).addPathPatterns("/api/**");
+        // Responses are negotiated between JSON, CBOR and Smile, so caches must key on Accept
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                return true;
+            }
+        }).addPathPatterns("/api/**");
+    }
 }
@@ -0,0 +1,80 @@
+package com.codewithsid.taskmanager.controller;
+
+import com.codewithsid.taskmanager.dto.TaskFilter;
+import com.codewithsid.taskmanager.dto.TaskView;
+import com.codewithsid.taskmanager.service.ReactiveTaskService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Non-blocking mirror of the read endpoints of {@link TaskController}, served from R2DBC.
+ * No request thread waits on the database. Lists are returned as a JSON array, or streamed
+ * one task per line with backpressure when the client accepts {@code application/x-ndjson}.
+ */
+@RestController
+@RequestMapping("/api/v1/reactive/tasks")
+@RequiredArgsConstructor
+public class ReactiveTaskController {
+
+    private final ReactiveTaskService reactiveTaskService;
+
+    // Get all tasks with pagination and sorting
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<TaskView> getAllTasks(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir) {
+        return reactiveTaskService.filterTasks(new TaskFilter(), toPageable(page, size, sortBy, sortDir));
+    }
+
+    // Advanced filtering with pagination, same parameters as /api/v1/tasks/filter
+    @GetMapping(value = "/filter", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<TaskView> filterTasks(
+            TaskFilter filter,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir) {
+        return reactiveTaskService.filterTasks(filter, toPageable(page, size, sortBy, sortDir));
+    }
+
+    // Get task by ID
+    @GetMapping("/{id}")
+    public Mono<TaskView> getTaskById(@PathVariable Long id) {
+        return reactiveTaskService.getTaskById(id);
+    }
+
+    // Get overdue tasks
+    @GetMapping(value = "/overdue", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<TaskView> getOverdueTasks() {
+        return reactiveTaskService.getOverdueTasks();
+    }
+
+    // Get tasks due within specified days
+    @GetMapping(value = "/due-within", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<TaskView> getTasksDueWithin(@RequestParam int days) {
+        return reactiveTaskService.getTasksDueWithin(days);
+    }
+
+    // Get task statistics
+    @GetMapping("/statistics")
+    public Mono<Map<String, Object>> getTaskStatistics() {
+        return reactiveTaskService.getTaskStatistics();
+    }
+
+    private static Pageable toPageable(int page, int size, String sortBy, String sortDir) {
+        Sort sort = sortDir.equalsIgnoreCase("desc") ?
+            Sort.by(sortBy).descending() :
+            Sort.by(sortBy).ascending();
+        return PageRequest.of(page, size, sort);
+    }
+}
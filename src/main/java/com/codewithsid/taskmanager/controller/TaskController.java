@@ -1,22 +1,47 @@
 package com.codewithsid.taskmanager.controller;
 
+import com.codewithsid.taskmanager.concurrency.Bulkhead;
+import com.codewithsid.taskmanager.dto.AssigneeWorkload;
+import com.codewithsid.taskmanager.dto.BatchResult;
+import com.codewithsid.taskmanager.dto.BulkOperationResult;
+import com.codewithsid.taskmanager.dto.BulkStatusUpdateRequest;
+import com.codewithsid.taskmanager.dto.CursorPage;
+import com.codewithsid.taskmanager.dto.ImportResult;
+import com.codewithsid.taskmanager.dto.TaskChangeBatch;
+import com.codewithsid.taskmanager.dto.TaskFilter;
+import com.codewithsid.taskmanager.dto.TaskPatchRequest;
+import com.codewithsid.taskmanager.dto.TaskSummary;
+import com.codewithsid.taskmanager.export.TaskExportFormat;
+import com.codewithsid.taskmanager.feed.TaskChangeFeed;
+import com.codewithsid.taskmanager.feed.TaskChangeFilter;
+import com.codewithsid.taskmanager.importer.TaskImportFormat;
+import com.codewithsid.taskmanager.service.TaskImportService;
 import com.codewithsid.taskmanager.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import com.codewithsid.taskmanager.model.Task;
-import com.codewithsid.taskmanager.repository.TaskRepository;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -25,83 +50,191 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class TaskController {
 
+    private static final int MAX_CHANGES_LIMIT = 1000;
+
     private final TaskService taskService;
-    private final TaskRepository taskRepository;
+    private final TaskImportService taskImportService;
+    private final ObjectMapper objectMapper;
+    private final TaskChangeFeed taskChangeFeed;
 
-    // Get all tasks with pagination and sorting
+    // Get all tasks with pagination and sorting, optionally only the requested fields
+    @Bulkhead("listing")
     @GetMapping
-    public ResponseEntity<Page<Task>> getAllTasks(
+    public ResponseEntity<Page<?>> getAllTasks(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
         
         Sort sort = sortDir.equalsIgnoreCase("desc") ? 
             Sort.by(sortBy).descending() : 
             Sort.by(sortBy).ascending();
         
         Pageable pageable = PageRequest.of(page, size, sort);
+        if (isListNotModified(new TaskFilter(), request)) {
+            return null;
+        }
+        if (fields != null) {
+            return ResponseEntity.ok(taskService.filterTaskFields(new TaskFilter(), fields, pageable));
+        }
         Page<Task> tasks = taskService.getAllTasks(pageable);
         return ResponseEntity.ok(tasks);
     }
 
-    // Advanced filtering with pagination
+    // Advanced filtering with pagination, optionally only the requested fields
+    @Bulkhead("listing")
     @GetMapping("/filter")
-    public ResponseEntity<Page<Task>> filterTasks(
-            @RequestParam(required = false) String title,
-            @RequestParam(required = false) String description,
-            @RequestParam(required = false) Task.TaskStatus status,
-            @RequestParam(required = false) Task.Priority priority,
-            @RequestParam(required = false) String category,
-            @RequestParam(required = false) String assignedTo,
-            @RequestParam(required = false) String createdBy,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdAfter,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdBefore,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueAfter,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueBefore,
-            @RequestParam(required = false) String searchTerm,
+    public ResponseEntity<Page<?>> filterTasks(
+            TaskFilter filter,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
         
         Sort sort = sortDir.equalsIgnoreCase("desc") ? 
             Sort.by(sortBy).descending() : 
             Sort.by(sortBy).ascending();
         
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Task> tasks = taskService.filterTasks(title, description, status, priority, 
-                category, assignedTo, createdBy, createdAfter, createdBefore, 
-                dueAfter, dueBefore, searchTerm, pageable);
+        if (isListNotModified(filter, request)) {
+            return null;
+        }
+        if (fields != null) {
+            return ResponseEntity.ok(taskService.filterTaskFields(filter, fields, pageable));
+        }
+        Page<Task> tasks = taskService.filterTasks(filter, pageable);
+        return ResponseEntity.ok(tasks);
+    }
+
+    // Filtered summaries (id, title, status, priority, dueDate) for board views
+    @Bulkhead("listing")
+    @GetMapping("/summary")
+    public ResponseEntity<Page<TaskSummary>> getTaskSummaries(
+            TaskFilter filter,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            WebRequest request) {
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by(toDirection(sortDir), sortBy));
+        if (isListNotModified(filter, request)) {
+            return null;
+        }
+        Page<TaskSummary> summaries = taskService.filterTaskSummaries(filter, pageable);
+        return ResponseEntity.ok(summaries);
+    }
+
+    // Get all tasks with keyset (cursor) pagination
+    @Bulkhead("listing")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<Task>> getAllTasksByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir) {
+
+        CursorPage<Task> tasks = taskService.scrollTasks(new TaskFilter(), sortBy,
+                toDirection(sortDir), cursor, size);
         return ResponseEntity.ok(tasks);
     }
 
-    // Get task by ID
+    // Advanced filtering with keyset (cursor) pagination
+    @Bulkhead("listing")
+    @GetMapping("/filter/cursor")
+    public ResponseEntity<CursorPage<Task>> filterTasksByCursor(
+            TaskFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir) {
+
+        CursorPage<Task> tasks = taskService.scrollTasks(filter, sortBy, toDirection(sortDir), cursor, size);
+        return ResponseEntity.ok(tasks);
+    }
+
+    // Stream every task matching the filter as NDJSON or CSV
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            TaskFilter filter,
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        TaskExportFormat exportFormat = TaskExportFormat.fromString(format);
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            taskService.exportTasks(filter, exportFormat.newWriter(writer, objectMapper));
+        };
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"tasks." + exportFormat.getFileExtension() + "\"")
+                .body(body);
+    }
+
+    // Get task by ID; answers If-None-Match with 304 when the version is unchanged
     @GetMapping("/{id}")
     public ResponseEntity<Task> getTaskById(@PathVariable Long id) {
         Task task = taskService.getTaskById(id);
-        return ResponseEntity.ok(task);
+        return ResponseEntity.ok().eTag(TaskETags.of(task)).body(task);
     }
 
     // Create new task
     @PostMapping
     public ResponseEntity<Task> createTask(@Valid @RequestBody Task task) {
         Task savedTask = taskService.createTask(task);
-        return ResponseEntity.status(HttpStatus.CREATED).body(savedTask);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(TaskETags.of(savedTask)).body(savedTask);
+    }
+
+    // Create many tasks at once, reporting the outcome of each item
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResult> createTasks(@RequestBody List<Task> tasks) {
+        BatchResult result = taskService.createTasks(tasks);
+        HttpStatus status = result.getSucceededCount() > 0 ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(result);
     }
 
-    // Update task
+    // Import tasks streamed as NDJSON or CSV in the request body
+    @PostMapping("/import")
+    public ResponseEntity<ImportResult> importTasks(
+            @RequestParam(defaultValue = "ndjson") String format,
+            InputStream body) throws IOException {
+
+        TaskImportFormat importFormat = TaskImportFormat.fromString(format);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        ImportResult result = taskImportService.importTasks(importFormat.newReader(reader, objectMapper));
+        return ResponseEntity.ok(result);
+    }
+
+    // Update task; with If-Match, rejected with 412 if the task changed since it was read
     @PutMapping("/{id}")
-    public ResponseEntity<Task> updateTask(@PathVariable Long id, @Valid @RequestBody Task updatedTask) {
-        Task task = taskService.updateTask(id, updatedTask);
-        return ResponseEntity.ok(task);
+    public ResponseEntity<Task> updateTask(
+            @PathVariable Long id,
+            @Valid @RequestBody Task updatedTask,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Task task = taskService.updateTask(id, updatedTask, TaskETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(TaskETags.of(task)).body(task);
+    }
+
+    // Patch many tasks in one transaction; each item reports its own outcome
+    @PatchMapping("/batch")
+    public ResponseEntity<BatchResult> patchTasks(@RequestBody List<TaskPatchRequest> patches) {
+        BatchResult result = taskService.patchTasks(patches);
+        HttpStatus status = result.getSucceededCount() > 0 ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(result);
     }
 
-    // Patch update task (partial update)
+    // Patch update task (partial update); If-Match is honored as for PUT
     @PatchMapping("/{id}")
-    public ResponseEntity<Task> patchTask(@PathVariable Long id, @RequestBody Map<String, Object> updates) {
-        Task task = taskService.patchTask(id, updates);
-        return ResponseEntity.ok(task);
+    public ResponseEntity<Task> patchTask(
+            @PathVariable Long id,
+            @RequestBody Map<String, Object> updates,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Task task = taskService.patchTask(id, updates, TaskETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(TaskETags.of(task)).body(task);
     }
 
     // Delete task
@@ -115,14 +248,14 @@ public class TaskController {
     @PatchMapping("/{id}/complete")
     public ResponseEntity<Task> completeTask(@PathVariable Long id) {
         Task task = taskService.completeTask(id);
-        return ResponseEntity.ok(task);
+        return ResponseEntity.ok().eTag(TaskETags.of(task)).body(task);
     }
 
     // Mark task as in progress
     @PatchMapping("/{id}/start")
     public ResponseEntity<Task> startTask(@PathVariable Long id) {
         Task task = taskService.startTask(id);
-        return ResponseEntity.ok(task);
+        return ResponseEntity.ok().eTag(TaskETags.of(task)).body(task);
     }
 
     // Get overdue tasks
@@ -163,64 +296,61 @@ public class TaskController {
         return ResponseEntity.ok(recentTasks);
     }
 
-    // Search tasks
+    // Poll committed task changes after a sequence number, optionally for one assignee or category
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangeBatch> getTaskChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(required = false) String assignedTo,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "100") int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_CHANGES_LIMIT));
+        TaskChangeBatch changes = taskChangeFeed.changesSince(since,
+                new TaskChangeFilter(assignedTo, category), boundedLimit);
+        return ResponseEntity.ok(changes);
+    }
+
+    // Stream committed task changes as server-sent events, resuming after Last-Event-ID or since
+    @GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestParam(required = false) Long since,
+            @RequestParam(required = false) String assignedTo,
+            @RequestParam(required = false) String category) {
+        Long resumeFrom = lastEventId != null ? lastEventId : since;
+        return taskChangeFeed.subscribe(resumeFrom, new TaskChangeFilter(assignedTo, category));
+    }
+
+    // Search tasks, best match first
+    @Bulkhead("search")
     @GetMapping("/search")
-    public ResponseEntity<List<Task>> searchTasks(@RequestParam String query) {
-        List<Task> searchResults = taskService.searchTasks(query);
+    public ResponseEntity<Page<Task>> searchTasks(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<Task> searchResults = taskService.searchTasks(query, PageRequest.of(page, size));
         return ResponseEntity.ok(searchResults);
     }
 
     // Get task statistics
+    @Bulkhead("statistics")
     @GetMapping("/statistics")
     public ResponseEntity<Map<String, Object>> getTaskStatistics() {
-        Map<String, Object> statistics = new HashMap<>();
-        
-        // Status statistics
-        List<Object[]> statusCounts = taskRepository.getTaskCountByStatus();
-        Map<String, Long> statusStats = new HashMap<>();
-        for (Object[] row : statusCounts) {
-            statusStats.put(((Task.TaskStatus) row[0]).name(), (Long) row[1]);
-        }
-        statistics.put("statusCounts", statusStats);
-        
-        // Priority statistics
-        List<Object[]> priorityCounts = taskRepository.getTaskCountByPriority();
-        Map<String, Long> priorityStats = new HashMap<>();
-        for (Object[] row : priorityCounts) {
-            priorityStats.put(((Task.Priority) row[0]).name(), (Long) row[1]);
-        }
-        statistics.put("priorityCounts", priorityStats);
-        
-        // Category statistics
-        List<Object[]> categoryCounts = taskRepository.getTaskCountByCategory();
-        Map<String, Long> categoryStats = new HashMap<>();
-        for (Object[] row : categoryCounts) {
-            categoryStats.put((String) row[0], (Long) row[1]);
-        }
-        statistics.put("categoryCounts", categoryStats);
-        
-        // Assignee statistics
-        List<Object[]> assigneeCounts = taskRepository.getTaskCountByAssignee();
-        Map<String, Long> assigneeStats = new HashMap<>();
-        for (Object[] row : assigneeCounts) {
-            assigneeStats.put((String) row[0], (Long) row[1]);
-        }
-        statistics.put("assigneeCounts", assigneeStats);
-        
-        // Overall statistics
-        long totalTasks = taskRepository.count();
-        long overdueTasks = taskRepository.findOverdueTasks(LocalDate.now()).size();
-        long tasksDueToday = taskRepository.findTasksDueToday(LocalDate.now()).size();
-        
-        Map<String, Long> overallStats = new HashMap<>();
-        overallStats.put("total", totalTasks);
-        overallStats.put("overdue", overdueTasks);
-        overallStats.put("dueToday", tasksDueToday);
-        statistics.put("overall", overallStats);
-        
+        Map<String, Object> statistics = taskService.getTaskStatistics();
         return ResponseEntity.ok(statistics);
     }
 
+    // Get open work per assignee
+    @GetMapping("/workload")
+    public ResponseEntity<List<AssigneeWorkload>> getTeamWorkload() {
+        return ResponseEntity.ok(taskService.getTeamWorkload());
+    }
+
+    // Get open work of one assignee
+    @GetMapping("/workload/{assignedTo}")
+    public ResponseEntity<AssigneeWorkload> getWorkload(@PathVariable String assignedTo) {
+        return ResponseEntity.ok(taskService.getWorkload(assignedTo));
+    }
+
     // Get tasks by status
     @GetMapping("/status/{status}")
     public ResponseEntity<List<Task>> getTasksByStatus(@PathVariable Task.TaskStatus status) {
@@ -258,19 +388,24 @@ public class TaskController {
 
     // Bulk operations
     @PostMapping("/bulk-update-status")
-    public ResponseEntity<String> bulkUpdateStatus(
-            @RequestBody Map<String, Object> request) {
-        @SuppressWarnings("unchecked")
-        List<Long> taskIds = (List<Long>) request.get("taskIds");
-        Task.TaskStatus newStatus = Task.TaskStatus.valueOf((String) request.get("status"));
-        
-        int updatedCount = taskService.bulkUpdateStatus(taskIds, newStatus);
-        return ResponseEntity.ok("Updated " + updatedCount + " tasks");
+    public ResponseEntity<BulkOperationResult> bulkUpdateStatus(
+            @Valid @RequestBody BulkStatusUpdateRequest request) {
+        BulkOperationResult result = taskService.bulkUpdateStatus(request.getTaskIds(), request.getStatus());
+        return ResponseEntity.ok(result);
     }
 
     @DeleteMapping("/bulk-delete")
-    public ResponseEntity<String> bulkDeleteTasks(@RequestBody List<Long> taskIds) {
-        int deletedCount = taskService.bulkDeleteTasks(taskIds);
-        return ResponseEntity.ok("Deleted " + deletedCount + " tasks");
+    public ResponseEntity<BulkOperationResult> bulkDeleteTasks(@RequestBody List<Long> taskIds) {
+        BulkOperationResult result = taskService.bulkDeleteTasks(taskIds);
+        return ResponseEntity.ok(result);
+    }
+
+    // Sets the list's weak ETag; true when it matches If-None-Match and a 304 has been sent
+    private boolean isListNotModified(TaskFilter filter, WebRequest request) {
+        return request.checkNotModified(TaskETags.of(taskService.getCollectionVersion(filter)));
+    }
+
+    private static Sort.Direction toDirection(String sortDir) {
+        return sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
     }
 }
@@ -0,0 +1,45 @@
+package com.codewithsid.taskmanager.controller;
+
+import com.codewithsid.taskmanager.exception.TaskException;
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.repository.TaskRepositoryCustom;
+
+/**
+ * Entity tags for tasks. A single task gets a strong tag from its version; a list gets a
+ * weak tag from the count and latest update of the tasks it is drawn from.
+ */
+final class TaskETags {
+
+    private TaskETags() {
+    }
+
+    static String of(Task task) {
+        return "\"" + task.getVersion() + "\"";
+    }
+
+    static String of(TaskRepositoryCustom.CollectionVersion version) {
+        return "W/\"" + version.count() + "-" + version.lastUpdatedAt() + "\"";
+    }
+
+    /**
+     * Version a client expects from its If-Match header, or null when the header is absent
+     * or {@code *}. Weak or malformed tags can never match, so they fail the precondition.
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.contains(",")) {
+            throw TaskException.badRequest("If-Match with more than one entity tag is not supported");
+        }
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw TaskException.preconditionFailed("If-Match does not match the current task version");
+        }
+        try {
+            return Long.valueOf(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException ex) {
+            throw TaskException.preconditionFailed("If-Match does not match the current task version");
+        }
+    }
+}
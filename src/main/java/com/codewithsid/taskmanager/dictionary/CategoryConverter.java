@@ -0,0 +1,16 @@
+package com.codewithsid.taskmanager.dictionary;
+
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+
+@Converter
+@RequiredArgsConstructor
+public class CategoryConverter extends TermConverter {
+
+    private final TaskDictionaries dictionaries;
+
+    @Override
+    protected TermDictionary dictionary() {
+        return dictionaries.categories();
+    }
+}
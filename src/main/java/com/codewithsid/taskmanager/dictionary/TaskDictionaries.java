@@ -0,0 +1,43 @@
+package com.codewithsid.taskmanager.dictionary;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * The lookup tables behind {@code Task.category} ({@code task_categories}) and behind
+ * {@code Task.assignedTo} and {@code Task.createdBy} ({@code task_people}). Tasks store
+ * integer keys; the API keeps exposing the names. Categories match case-insensitively;
+ * people keep their exact spelling, as assignee and creator filters always compared it.
+ */
+@Component
+@Slf4j
+public class TaskDictionaries {
+
+    private final TermDictionary categories;
+    private final TermDictionary people;
+
+    public TaskDictionaries(@Qualifier("autocommitDataSource") DataSource dataSource) {
+        this.categories = new TermDictionary(dataSource, "task_categories", true);
+        this.people = new TermDictionary(dataSource, "task_people", false);
+    }
+
+    public TermDictionary categories() {
+        return categories;
+    }
+
+    public TermDictionary people() {
+        return people;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        categories.loadAll();
+        people.loadAll();
+        log.info("Loaded {} categories and {} people into the task dictionaries", categories.size(), people.size());
+    }
+}
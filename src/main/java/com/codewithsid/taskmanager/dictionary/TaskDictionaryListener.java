@@ -0,0 +1,25 @@
+package com.codewithsid.taskmanager.dictionary;
+
+import com.codewithsid.taskmanager.model.Task;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Registers new categories and people before a task is written, and replaces each name
+ * with its registered spelling. The saved task then reads the same as it will when it is
+ * loaded again.
+ */
+@RequiredArgsConstructor
+public class TaskDictionaryListener {
+
+    private final TaskDictionaries dictionaries;
+
+    @PrePersist
+    @PreUpdate
+    public void register(Task task) {
+        task.setCategory(dictionaries.categories().register(task.getCategory()));
+        task.setAssignedTo(dictionaries.people().register(task.getAssignedTo()));
+        task.setCreatedBy(dictionaries.people().register(task.getCreatedBy()));
+    }
+}
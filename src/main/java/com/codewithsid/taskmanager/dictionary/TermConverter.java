@@ -0,0 +1,28 @@
+package com.codewithsid.taskmanager.dictionary;
+
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * Maps a name to its dictionary key and back. A name that was never registered can only
+ * come from a query parameter, so it becomes a key that matches no row.
+ */
+abstract class TermConverter implements AttributeConverter<String, Integer> {
+
+    static final int UNKNOWN_ID = -1;
+
+    protected abstract TermDictionary dictionary();
+
+    @Override
+    public Integer convertToDatabaseColumn(String name) {
+        if (name == null) {
+            return null;
+        }
+        Integer id = dictionary().findId(name);
+        return id != null ? id : UNKNOWN_ID;
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer id) {
+        return id != null ? dictionary().nameOf(id) : null;
+    }
+}
@@ -0,0 +1,146 @@
+package com.codewithsid.taskmanager.dictionary;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory, two-way cache of one lookup table ({@code id}, {@code name},
+ * {@code canonical_key}). Names are matched by their canonical key. A case-folding
+ * dictionary trims and lower-cases names, and the first spelling registered for a key becomes
+ * its name; otherwise the key is the name as given.
+ *
+ * <p>Lookups that miss the cache read the table. The data source should be a pool separate
+ * from the one callers hold their transactions on. New names are inserted on a connection of
+ * their own that commits immediately. This way an id is never cached for a row that a
+ * rollback could remove. A task transaction that later rolls back can leave an unused
+ * entry behind.
+ */
+@Slf4j
+public class TermDictionary {
+
+    private final DataSource dataSource;
+    private final String table;
+    private final boolean foldCase;
+    private final Map<String, Term> byKey = new ConcurrentHashMap<>();
+    private final Map<Integer, Term> byId = new ConcurrentHashMap<>();
+
+    public TermDictionary(DataSource dataSource, String table, boolean foldCase) {
+        this.dataSource = dataSource;
+        this.table = table;
+        this.foldCase = foldCase;
+    }
+
+    public String canonicalKey(String name) {
+        return foldCase ? name.trim().toLowerCase(Locale.ROOT) : name;
+    }
+
+    /**
+     * Returns the id of the name, or null if no such name has been registered.
+     */
+    public Integer findId(String name) {
+        Term term = findByKey(canonicalKey(name));
+        return term != null ? term.id() : null;
+    }
+
+    /**
+     * Returns the registered spelling of the name, registering it first if it is new.
+     */
+    public String register(String name) {
+        if (name == null) {
+            return null;
+        }
+        String key = canonicalKey(name);
+        Term term = findByKey(key);
+        if (term == null) {
+            term = insert(foldCase ? name.trim() : name, key);
+        }
+        return term.name();
+    }
+
+    public String nameOf(Integer id) {
+        Term term = byId.get(id);
+        if (term == null) {
+            term = select("SELECT id, name, canonical_key FROM " + table + " WHERE id = ?", id);
+            if (term == null) {
+                throw new IllegalStateException("No " + table + " entry with id " + id);
+            }
+        }
+        return term.name();
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public void loadAll() {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT id, name, canonical_key FROM " + table);
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                cache(new Term(resultSet.getInt(1), resultSet.getString(2), resultSet.getString(3)));
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Could not load " + table, ex);
+        }
+    }
+
+    private Term findByKey(String key) {
+        Term term = byKey.get(key);
+        return term != null ? term : select("SELECT id, name, canonical_key FROM " + table + " WHERE canonical_key = ?", key);
+    }
+
+    private Term insert(String name, String key) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "INSERT INTO " + table + " (name, canonical_key) VALUES (?, ?)", new String[] {"id"})) {
+            connection.setAutoCommit(true);
+            statement.setString(1, name);
+            statement.setString(2, key);
+            statement.executeUpdate();
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                keys.next();
+                log.debug("Registered {} '{}'", table, name);
+                return cache(new Term(keys.getInt(1), name, key));
+            }
+        } catch (SQLException ex) {
+            // Another instance registered the same key first
+            Term term = select("SELECT id, name, canonical_key FROM " + table + " WHERE canonical_key = ?", key);
+            if (term == null) {
+                throw new IllegalStateException("Could not register " + table + " entry '" + name + "'", ex);
+            }
+            return term;
+        }
+    }
+
+    private Term select(String sql, Object parameter) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setObject(1, parameter);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next()
+                        ? cache(new Term(resultSet.getInt(1), resultSet.getString(2), resultSet.getString(3)))
+                        : null;
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Could not read " + table, ex);
+        }
+    }
+
+    private Term cache(Term term) {
+        byKey.put(term.key(), term);
+        byId.put(term.id(), term);
+        return term;
+    }
+
+    private record Term(int id, String name, String key) {
+    }
+}
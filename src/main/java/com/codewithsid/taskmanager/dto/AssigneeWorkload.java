@@ -0,0 +1,25 @@
+package com.codewithsid.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Open work of one assignee: tasks that are neither completed, cancelled nor archived.
+ * {@code estimatedHours} sums the estimates of those tasks; tasks without one count as zero.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssigneeWorkload {
+    private String assignedTo;
+    private long openTasks;
+    private long overdueTasks;
+    private long estimatedHours;
+    private Map<String, Long> statusCounts;
+    private Map<String, Long> priorityCounts;
+}
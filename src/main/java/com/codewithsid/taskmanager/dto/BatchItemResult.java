@@ -0,0 +1,33 @@
+package com.codewithsid.taskmanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Outcome for one item of a batch request, identified by its position in the request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResult {
+
+    public enum Outcome {
+        CREATED,
+        UPDATED,
+        INVALID,
+        NOT_FOUND,
+        CONFLICT
+    }
+
+    private int index;
+    private Outcome outcome;
+    private Long id;
+    private Map<String, String> errors;
+}
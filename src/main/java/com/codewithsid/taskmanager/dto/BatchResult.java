@@ -0,0 +1,22 @@
+package com.codewithsid.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a batch request, with one entry per submitted item.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResult {
+    private int requestedCount;
+    private int succeededCount;
+    private int failedCount;
+    private List<BatchItemResult> items;
+}
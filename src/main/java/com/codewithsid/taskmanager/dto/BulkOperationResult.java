@@ -0,0 +1,23 @@
+package com.codewithsid.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk operation: which of the requested ids were affected and which
+ * did not exist.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationResult {
+    private int requestedCount;
+    private int affectedCount;
+    private List<Long> affectedIds;
+    private List<Long> missingIds;
+}
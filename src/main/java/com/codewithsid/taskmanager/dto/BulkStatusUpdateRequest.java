@@ -0,0 +1,22 @@
+package com.codewithsid.taskmanager.dto;
+
+import com.codewithsid.taskmanager.model.Task;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateRequest {
+
+    @NotEmpty(message = "Task ids are required")
+    private List<Long> taskIds;
+
+    @NotNull(message = "Status is required")
+    private Task.TaskStatus status;
+}
@@ -0,0 +1,23 @@
+package com.codewithsid.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A slice of results fetched with keyset pagination. Unlike {@code Page} it carries
+ * no total count; {@code nextCursor} is passed back to fetch the following slice.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,36 @@
+package com.codewithsid.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a streaming import. Only the first errors are listed, so a badly broken
+ * file cannot make the response itself unbounded; {@code errorsTruncated} tells whether
+ * more were dropped.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResult {
+    private long recordsRead;
+    private long importedCount;
+    private long failedCount;
+    private long chunksCommitted;
+    private long elapsedMillis;
+    private List<LineError> errors;
+    private boolean errorsTruncated;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LineError {
+        private long line;
+        private Map<String, String> errors;
+    }
+}
@@ -0,0 +1,27 @@
+package com.codewithsid.taskmanager.dto;
+
+import com.codewithsid.taskmanager.event.TaskChangedEvent;
+import com.codewithsid.taskmanager.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the task change feed. {@code sequence} increases by one per committed
+ * change; {@code task} is the task after the change and is absent for deletions and
+ * archiving.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChange {
+    private long sequence;
+    private TaskChangedEvent.Type type;
+    private Long taskId;
+    private LocalDateTime changedAt;
+    private Task task;
+}
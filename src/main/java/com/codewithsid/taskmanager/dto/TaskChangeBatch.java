@@ -0,0 +1,24 @@
+package com.codewithsid.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Changes returned to a polling client. {@code nextSince} is passed back as {@code since}
+ * on the next call. {@code reset} means changes after the requested sequence are no longer
+ * buffered, so the client should reload its tasks before applying these changes.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangeBatch {
+    private List<TaskChange> changes;
+    private long nextSince;
+    private boolean hasMore;
+    private boolean reset;
+}
@@ -0,0 +1,46 @@
+package com.codewithsid.taskmanager.dto;
+
+import com.codewithsid.taskmanager.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Filter criteria accepted by the filtering endpoints. Every field is optional;
+ * null fields do not restrict the result.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilter {
+    private String title;
+    private String description;
+    private Task.TaskStatus status;
+    private Task.Priority priority;
+    private String category;
+    private String assignedTo;
+    private String createdBy;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdAfter;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdBefore;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueAfter;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueBefore;
+
+    private String searchTerm;
+
+    // Archived tasks are only matched when asked for
+    private boolean includeArchived;
+}
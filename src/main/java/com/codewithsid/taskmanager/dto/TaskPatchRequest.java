@@ -0,0 +1,22 @@
+package com.codewithsid.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Field updates for one task of a batch patch. If {@code version} is given, the patch is
+ * only applied while the task is still at that version.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPatchRequest {
+    private Long id;
+    private Long version;
+    private Map<String, Object> changes;
+}
@@ -0,0 +1,13 @@
+package com.codewithsid.taskmanager.dto;
+
+import com.codewithsid.taskmanager.model.Task;
+
+import java.time.LocalDate;
+
+/**
+ * The columns board views need, selected directly by the query instead of loading
+ * whole entities.
+ */
+public record TaskSummary(Long id, String title, Task.TaskStatus status, Task.Priority priority,
+                          LocalDate dueDate) {
+}
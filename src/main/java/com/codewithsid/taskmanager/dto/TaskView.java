@@ -0,0 +1,19 @@
+package com.codewithsid.taskmanager.dto;
+
+import com.codewithsid.taskmanager.model.Task;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A task as the reactive read API returns it, read from {@code task_view}, which joins the
+ * category and people names back in. Serializes to the same JSON as {@link Task}.
+ */
+@Table("task_view")
+public record TaskView(@Id Long id, String title, String description, LocalDate dueDate,
+                       Task.TaskStatus status, Task.Priority priority, String category, String assignedTo,
+                       Integer estimatedHours, LocalDateTime completionDate, LocalDateTime createdAt,
+                       LocalDateTime updatedAt, String createdBy, Long version, boolean archived) {
+}
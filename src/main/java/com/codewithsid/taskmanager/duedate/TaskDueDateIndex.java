@@ -0,0 +1,212 @@
+package com.codewithsid.taskmanager.duedate;
+
+import com.codewithsid.taskmanager.event.TaskChangedEvent;
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.repository.TaskRepository;
+import com.codewithsid.taskmanager.routing.PrimaryReads;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process index of open (not completed or cancelled) tasks by due date, answering the
+ * overdue, due-today and due-within queries with task ids.
+ *
+ * <p>Ids are bucketed per due date, and queries are ranges relative to the day they are
+ * asked, so tasks move from "due today" to "overdue" at midnight without touching the
+ * index. The index is built once the application is ready, kept current from
+ * {@link TaskChangedEvent}s after each transaction commits, and rebuilt nightly
+ * ({@code task.due-index.rebuild-cron}) to pick up writes made outside {@code TaskService}.
+ * Changes that arrive while a rebuild reads the tasks are replayed onto the rebuilt index
+ * before it replaces the current one.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskDueDateIndex {
+
+    private final TaskRepository taskRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private TreeMap<LocalDate, TreeSet<Long>> tasksByDueDate = new TreeMap<>();
+    private Map<Long, LocalDate> dueDates = new HashMap<>();
+    // Changes received while a rebuild reads the tasks; null when no rebuild is running
+    private List<Change> changesDuringRebuild;
+    private volatile boolean ready;
+
+    // The task's new due date, or null when it is no longer tracked
+    private record Change(Long taskId, LocalDate dueDate) {
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Whether the index tracks the task: it has a due date and is still open.
+     */
+    public static boolean isTracked(Task task) {
+        return task.getDueDate() != null
+                && task.getStatus() != Task.TaskStatus.COMPLETED
+                && task.getStatus() != Task.TaskStatus.CANCELLED;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${task.due-index.rebuild-cron:0 0 0 * * *}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<Object[]> rows;
+        try {
+            rows = PrimaryReads.call(taskRepository::getOpenTaskDueDates);
+        } catch (RuntimeException ex) {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+
+        lock.writeLock().lock();
+        try {
+            List<Change> changes = changesDuringRebuild;
+            changesDuringRebuild = null;
+            tasksByDueDate = new TreeMap<>();
+            dueDates = new HashMap<>();
+            for (Object[] row : rows) {
+                putLocked((Long) row[0], (LocalDate) row[1]);
+            }
+            for (Change change : changes) {
+                applyLocked(change);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Due date index built with {} open tasks in {} ms", rows.size(),
+                System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getCurrent() == null) {
+            remove(event.getTaskId());
+        } else {
+            update(event.getCurrent());
+        }
+    }
+
+    public void update(Task task) {
+        lock.writeLock().lock();
+        try {
+            applyLocked(new Change(task.getId(), isTracked(task) ? task.getDueDate() : null));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long taskId) {
+        lock.writeLock().lock();
+        try {
+            applyLocked(new Change(taskId, null));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return dueDates.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of open tasks due strictly before the given date, earliest due date first.
+     */
+    public List<Long> findDueBefore(LocalDate date) {
+        lock.readLock().lock();
+        try {
+            return flatten(tasksByDueDate.headMap(date, false));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of open tasks due between both dates inclusive, earliest due date first.
+     */
+    public List<Long> findDueBetween(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return flatten(tasksByDueDate.subMap(startDate, true, endDate, true));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<Long> flatten(NavigableMap<LocalDate, TreeSet<Long>> buckets) {
+        List<Long> ids = new ArrayList<>();
+        buckets.values().forEach(ids::addAll);
+        return ids;
+    }
+
+    private void applyLocked(Change change) {
+        removeLocked(change.taskId());
+        if (change.dueDate() != null) {
+            putLocked(change.taskId(), change.dueDate());
+        }
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+    }
+
+    private void putLocked(Long taskId, LocalDate dueDate) {
+        tasksByDueDate.computeIfAbsent(dueDate, date -> new TreeSet<>()).add(taskId);
+        dueDates.put(taskId, dueDate);
+    }
+
+    private void removeLocked(Long taskId) {
+        LocalDate dueDate = dueDates.remove(taskId);
+        if (dueDate == null) {
+            return;
+        }
+        TreeSet<Long> ids = tasksByDueDate.get(dueDate);
+        ids.remove(taskId);
+        if (ids.isEmpty()) {
+            tasksByDueDate.remove(dueDate);
+        }
+    }
+}
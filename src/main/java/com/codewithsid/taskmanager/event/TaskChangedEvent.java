@@ -0,0 +1,45 @@
+package com.codewithsid.taskmanager.event;
+
+import com.codewithsid.taskmanager.model.Task;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published by {@code TaskService} for every task it creates, modifies, deletes or
+ * archives. {@code previous} is a detached copy taken before the change (null for
+ * creations); {@code current} is the task as saved (null for deletions and archiving,
+ * since the task leaves the active set either way).
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TaskChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        ARCHIVED
+    }
+
+    private final Type type;
+    private final Long taskId;
+    private final Task previous;
+    private final Task current;
+
+    public static TaskChangedEvent created(Task task) {
+        return new TaskChangedEvent(Type.CREATED, task.getId(), null, task);
+    }
+
+    public static TaskChangedEvent updated(Task previous, Task current) {
+        return new TaskChangedEvent(Type.UPDATED, current.getId(), previous, current);
+    }
+
+    public static TaskChangedEvent deleted(Task previous) {
+        return new TaskChangedEvent(Type.DELETED, previous.getId(), previous, null);
+    }
+
+    public static TaskChangedEvent archived(Task previous) {
+        return new TaskChangedEvent(Type.ARCHIVED, previous.getId(), previous, null);
+    }
+}
@@ -24,7 +24,15 @@ public class TaskException extends RuntimeException {
         return new TaskException(message, HttpStatus.CONFLICT);
     }
 
+    public static TaskException preconditionFailed(String message) {
+        return new TaskException(message, HttpStatus.PRECONDITION_FAILED);
+    }
+
     public static TaskException forbidden(String message) {
         return new TaskException(message, HttpStatus.FORBIDDEN);
     }
+
+    public static TaskException serviceUnavailable(String message) {
+        return new TaskException(message, HttpStatus.SERVICE_UNAVAILABLE);
+    }
 }
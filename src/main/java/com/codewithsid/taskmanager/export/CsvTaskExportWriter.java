@@ -0,0 +1,67 @@
+package com.codewithsid.taskmanager.export;
+
+import com.codewithsid.taskmanager.model.Task;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * RFC 4180 CSV with a header row. Fields containing a separator, quote or line break are
+ * quoted, with embedded quotes doubled.
+ */
+class CsvTaskExportWriter implements TaskExportWriter {
+
+    static final String HEADER = "id,title,description,status,priority,category,assignedTo,createdBy,"
+            + "dueDate,estimatedHours,completionDate,createdAt,updatedAt";
+
+    private final Writer out;
+    private boolean headerWritten;
+
+    CsvTaskExportWriter(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void write(Task task) throws IOException {
+        writeHeaderIfNeeded();
+        Object[] fields = {
+                task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getPriority(),
+                task.getCategory(), task.getAssignedTo(), task.getCreatedBy(), task.getDueDate(),
+                task.getEstimatedHours(), task.getCompletionDate(), task.getCreatedAt(), task.getUpdatedAt()
+        };
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            if (fields[i] != null) {
+                writeField(fields[i].toString());
+            }
+        }
+        out.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writeHeaderIfNeeded();
+        out.flush();
+    }
+
+    private void writeHeaderIfNeeded() throws IOException {
+        if (!headerWritten) {
+            out.write(HEADER);
+            out.write("\r\n");
+            headerWritten = true;
+        }
+    }
+
+    private void writeField(String value) throws IOException {
+        boolean quote = value.chars().anyMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r');
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
@@ -0,0 +1,36 @@
+package com.codewithsid.taskmanager.export;
+
+import com.codewithsid.taskmanager.model.Task;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * One JSON object per line, in the same shape as the regular task endpoints.
+ */
+class NdjsonTaskExportWriter implements TaskExportWriter {
+
+    private final Writer out;
+    private final ObjectWriter taskWriter;
+
+    NdjsonTaskExportWriter(Writer out, ObjectMapper objectMapper) {
+        this.out = out;
+        this.taskWriter = objectMapper.writerFor(Task.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+    }
+
+    @Override
+    public void write(Task task) throws IOException {
+        taskWriter.writeValue(out, task);
+        out.write('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        out.flush();
+    }
+}
@@ -0,0 +1,32 @@
+package com.codewithsid.taskmanager.export;
+
+import com.codewithsid.taskmanager.exception.TaskException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.io.Writer;
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum TaskExportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    public TaskExportWriter newWriter(Writer out, ObjectMapper objectMapper) {
+        return this == NDJSON ? new NdjsonTaskExportWriter(out, objectMapper) : new CsvTaskExportWriter(out);
+    }
+
+    public static TaskExportFormat fromString(String format) {
+        return Arrays.stream(values())
+                .filter(value -> value.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> TaskException.badRequest("Unsupported export format: " + format
+                        + ". Use ndjson or csv"));
+    }
+}
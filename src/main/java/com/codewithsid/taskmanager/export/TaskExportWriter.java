@@ -0,0 +1,16 @@
+package com.codewithsid.taskmanager.export;
+
+import com.codewithsid.taskmanager.model.Task;
+
+import java.io.IOException;
+
+/**
+ * Writes tasks one at a time to an export stream, so nothing but the current row is held
+ * in memory.
+ */
+public interface TaskExportWriter {
+
+    void write(Task task) throws IOException;
+
+    void finish() throws IOException;
+}
@@ -0,0 +1,266 @@
+package com.codewithsid.taskmanager.feed;
+
+import com.codewithsid.taskmanager.dto.TaskChange;
+import com.codewithsid.taskmanager.dto.TaskChangeBatch;
+import com.codewithsid.taskmanager.event.TaskChangedEvent;
+import com.codewithsid.taskmanager.model.Task;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Feed of committed task changes, kept in a fixed-size ring buffer of the latest
+ * {@code task.feed.buffer-size} changes.
+ *
+ * <p>Clients either poll {@link #changesSince} or subscribe to a server-sent event stream,
+ * and resume from the last sequence number they saw. If that sequence has already left the
+ * buffer, they are told to reset. Every stream subscriber has a queue of at most
+ * {@code task.feed.subscriber-queue-size} pending events, drained by a small dispatcher
+ * pool. A subscriber whose queue is full is disconnected rather than buffered further; it
+ * can reconnect and resume. Sequence numbers restart with the application, which clients
+ * see as a reset.
+ */
+@Component
+@Slf4j
+public class TaskChangeFeed {
+
+    private static final Object HEARTBEAT = new Object();
+
+    private final TaskChange[] buffer;
+    private final Task[] previousTasks;
+    private final int subscriberQueueSize;
+    private final Duration emitterTimeout;
+    private final Executor dispatcher;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Counter disconnectedCounter;
+    private long lastSequence;
+
+    @Autowired
+    public TaskChangeFeed(MeterRegistry meterRegistry,
+                          @Value("${task.feed.buffer-size:10000}") int bufferSize,
+                          @Value("${task.feed.subscriber-queue-size:1000}") int subscriberQueueSize,
+                          @Value("${task.feed.emitter-timeout:PT30M}") Duration emitterTimeout,
+                          @Value("${task.feed.dispatch-threads:4}") int dispatchThreads) {
+        this(meterRegistry, bufferSize, subscriberQueueSize, emitterTimeout,
+                Executors.newFixedThreadPool(dispatchThreads, new DispatcherThreadFactory()));
+    }
+
+    TaskChangeFeed(MeterRegistry meterRegistry, int bufferSize, int subscriberQueueSize, Duration emitterTimeout,
+                   Executor dispatcher) {
+        this.buffer = new TaskChange[bufferSize];
+        this.previousTasks = new Task[bufferSize];
+        this.subscriberQueueSize = subscriberQueueSize;
+        this.emitterTimeout = emitterTimeout;
+        this.dispatcher = dispatcher;
+        this.disconnectedCounter = Counter.builder("task.feed.disconnected")
+                .description("Change feed subscribers disconnected for falling behind")
+                .register(meterRegistry);
+        Gauge.builder("task.feed.subscribers", subscribers, Set::size)
+                .description("Open change feed streams")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        TaskChange change = TaskChange.builder()
+                .sequence(++lastSequence)
+                .type(event.getType())
+                .taskId(event.getTaskId())
+                .changedAt(LocalDateTime.now())
+                .task(event.getCurrent())
+                .build();
+        int slot = slot(change.getSequence());
+        buffer[slot] = change;
+        previousTasks[slot] = event.getPrevious();
+
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.filter.matches(change, event.getPrevious())) {
+                subscriber.offer(change);
+            }
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} changes after {@code since} that match the filter.
+     */
+    public synchronized TaskChangeBatch changesSince(long since, TaskChangeFilter filter, int limit) {
+        boolean reset = isReset(since);
+        long sequence = reset ? oldestSequence() - 1 : since;
+        List<TaskChange> changes = new ArrayList<>();
+        while (sequence < lastSequence && changes.size() < limit) {
+            sequence++;
+            int slot = slot(sequence);
+            if (filter.matches(buffer[slot], previousTasks[slot])) {
+                changes.add(buffer[slot]);
+            }
+        }
+        return TaskChangeBatch.builder()
+                .changes(changes)
+                .nextSince(sequence)
+                .hasMore(sequence < lastSequence)
+                .reset(reset)
+                .build();
+    }
+
+    /**
+     * Opens a server-sent event stream of the changes matching the filter. Buffered
+     * changes after {@code since} are sent first; without {@code since} only new changes
+     * are sent.
+     */
+    public SseEmitter subscribe(Long since, TaskChangeFilter filter) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        synchronized (this) {
+            TaskChangeBatch replay = since == null
+                    ? TaskChangeBatch.builder().changes(List.of()).build()
+                    : changesSince(since, filter, buffer.length);
+            int replayed = replay.getChanges().size() + (replay.isReset() ? 1 : 0);
+            Subscriber subscriber = new Subscriber(emitter, filter, replayed + subscriberQueueSize);
+            if (replay.isReset()) {
+                subscriber.offer(Map.of("oldestSequence", oldestSequence()));
+            }
+            replay.getChanges().forEach(subscriber::offer);
+            subscribers.add(subscriber);
+            emitter.onCompletion(() -> subscribers.remove(subscriber));
+            emitter.onTimeout(subscriber::close);
+            emitter.onError(error -> subscriber.close());
+        }
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    // Comments keep idle connections open through proxies and detect closed clients
+    @Scheduled(fixedDelayString = "${task.feed.heartbeat-interval:PT15S}")
+    public void sendHeartbeats() {
+        subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        if (dispatcher instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private boolean isReset(long since) {
+        return since > lastSequence || since < oldestSequence() - 1;
+    }
+
+    private long oldestSequence() {
+        return Math.max(1, lastSequence - buffer.length + 1);
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % buffer.length);
+    }
+
+    private class Subscriber {
+
+        private final SseEmitter emitter;
+        private final TaskChangeFilter filter;
+        private final BlockingQueue<Object> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, TaskChangeFilter filter, int queueSize) {
+            this.emitter = emitter;
+            this.filter = filter;
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+        }
+
+        void offer(Object item) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(item)) {
+                log.info("Disconnecting change feed subscriber that fell {} events behind", queue.size());
+                disconnectedCounter.increment();
+                close();
+                emitter.complete();
+                return;
+            }
+            if (scheduled.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Object item;
+                while (!closed && (item = queue.poll()) != null) {
+                    send(item);
+                }
+            } catch (IOException | IllegalStateException ex) {
+                close();
+            } finally {
+                scheduled.set(false);
+            }
+            if (!closed && !queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void send(Object item) throws IOException {
+            if (item == HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } else if (item instanceof TaskChange change) {
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(change.getSequence()))
+                        .name("change")
+                        .data(change, MediaType.APPLICATION_JSON));
+            } else {
+                emitter.send(SseEmitter.event().name("reset").data(item, MediaType.APPLICATION_JSON));
+            }
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+            queue.clear();
+        }
+    }
+
+    private static class DispatcherThreadFactory implements java.util.concurrent.ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "task-feed-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.codewithsid.taskmanager.feed;
+
+import com.codewithsid.taskmanager.dto.TaskChange;
+import com.codewithsid.taskmanager.model.Task;
+
+/**
+ * Restricts a change feed to tasks of one assignee and/or category. A change matches if
+ * the task matched before or after it, so clients also see tasks leaving their view.
+ * Names compare case-insensitively, like the filters of {@code /filter}.
+ */
+public record TaskChangeFilter(String assignedTo, String category) {
+
+    public static final TaskChangeFilter ALL = new TaskChangeFilter(null, null);
+
+    boolean matches(TaskChange change, Task previous) {
+        return matches(change.getTask()) || matches(previous);
+    }
+
+    private boolean matches(Task task) {
+        return task != null
+                && (assignedTo == null || assignedTo.equalsIgnoreCase(task.getAssignedTo()))
+                && (category == null || category.equalsIgnoreCase(task.getCategory()));
+    }
+}
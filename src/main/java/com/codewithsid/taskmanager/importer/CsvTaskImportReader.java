@@ -0,0 +1,148 @@
+package com.codewithsid.taskmanager.importer;
+
+import com.codewithsid.taskmanager.exception.TaskException;
+import com.codewithsid.taskmanager.model.Task;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV whose first record names the columns. Recognised columns are title,
+ * description, status, priority, category, assignedTo, createdBy, dueDate and
+ * estimatedHours; any other column (such as the id and timestamps of an export) is
+ * ignored, so an export can be imported again. Empty fields leave the default value.
+ */
+class CsvTaskImportReader implements TaskImportReader {
+
+    private final BufferedReader in;
+    private List<String> header;
+    private long nextLine = 1;
+    private long recordLine;
+    private boolean endOfStream;
+    private boolean unterminatedQuote;
+
+    CsvTaskImportReader(BufferedReader in) {
+        this.in = in;
+    }
+
+    @Override
+    public TaskImportRecord next() throws IOException {
+        if (header == null) {
+            header = readRecord();
+            if (header == null) {
+                return null;
+            }
+            if (unterminatedQuote) {
+                throw TaskException.badRequest("Unterminated quoted field in CSV header");
+            }
+        }
+
+        List<String> fields;
+        do {
+            fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty());
+
+        if (unterminatedQuote) {
+            return TaskImportRecord.unparseable(recordLine, "Unterminated quoted field");
+        }
+        if (fields.size() != header.size()) {
+            return TaskImportRecord.unparseable(recordLine,
+                    "Expected " + header.size() + " fields but found " + fields.size());
+        }
+        try {
+            return TaskImportRecord.parsed(recordLine, toTask(fields));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            return TaskImportRecord.unparseable(recordLine, ex.getMessage());
+        }
+    }
+
+    private Task toTask(List<String> fields) {
+        Task task = new Task();
+        for (int i = 0; i < fields.size(); i++) {
+            String value = fields.get(i);
+            if (value.isEmpty()) {
+                continue;
+            }
+            switch (header.get(i)) {
+                case "title" -> task.setTitle(value);
+                case "description" -> task.setDescription(value);
+                case "status" -> task.setStatus(Task.TaskStatus.valueOf(value));
+                case "priority" -> task.setPriority(Task.Priority.valueOf(value));
+                case "category" -> task.setCategory(value);
+                case "assignedTo" -> task.setAssignedTo(value);
+                case "createdBy" -> task.setCreatedBy(value);
+                case "dueDate" -> task.setDueDate(LocalDate.parse(value));
+                case "estimatedHours" -> task.setEstimatedHours(Integer.valueOf(value));
+                default -> {
+                    // Ignore columns that are assigned by the server
+                }
+            }
+        }
+        return task;
+    }
+
+    /**
+     * Reads one record, which may span several lines when a quoted field contains line
+     * breaks. Returns {@code null} at the end of the stream and sets {@link #recordLine}
+     * to the line the record starts on.
+     */
+    private List<String> readRecord() throws IOException {
+        if (endOfStream) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean readAny = false;
+        recordLine = nextLine;
+
+        while (true) {
+            int c = in.read();
+            if (c == -1) {
+                endOfStream = true;
+                unterminatedQuote = quoted;
+                if (!readAny) {
+                    return null;
+                }
+                break;
+            }
+            readAny = true;
+
+            if (quoted) {
+                if (c == '"') {
+                    in.mark(1);
+                    if (in.read() == '"') {
+                        field.append('"');
+                    } else {
+                        in.reset();
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        nextLine++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                nextLine++;
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
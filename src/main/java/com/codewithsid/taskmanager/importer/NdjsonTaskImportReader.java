@@ -0,0 +1,43 @@
+package com.codewithsid.taskmanager.importer;
+
+import com.codewithsid.taskmanager.model.Task;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * One JSON task per line, in the same shape accepted by the create endpoint. Blank lines
+ * are skipped.
+ */
+class NdjsonTaskImportReader implements TaskImportReader {
+
+    private final BufferedReader in;
+    private final ObjectReader taskReader;
+    private long lineNumber;
+
+    NdjsonTaskImportReader(BufferedReader in, ObjectMapper objectMapper) {
+        this.in = in;
+        this.taskReader = objectMapper.readerFor(Task.class);
+    }
+
+    @Override
+    public TaskImportRecord next() throws IOException {
+        String line;
+        do {
+            line = in.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        try {
+            return TaskImportRecord.parsed(lineNumber, taskReader.readValue(line));
+        } catch (JsonProcessingException ex) {
+            return TaskImportRecord.unparseable(lineNumber, "Malformed JSON: " + ex.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.codewithsid.taskmanager.importer;
+
+import com.codewithsid.taskmanager.exception.TaskException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.util.Arrays;
+
+public enum TaskImportFormat {
+    NDJSON,
+    CSV;
+
+    public TaskImportReader newReader(BufferedReader in, ObjectMapper objectMapper) {
+        return this == NDJSON ? new NdjsonTaskImportReader(in, objectMapper) : new CsvTaskImportReader(in);
+    }
+
+    public static TaskImportFormat fromString(String format) {
+        return Arrays.stream(values())
+                .filter(value -> value.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> TaskException.badRequest("Unsupported import format: " + format
+                        + ". Use ndjson or csv"));
+    }
+}
@@ -0,0 +1,15 @@
+package com.codewithsid.taskmanager.importer;
+
+import java.io.IOException;
+
+/**
+ * Reads tasks from an import stream one record at a time, so only the current record is
+ * held in memory.
+ */
+public interface TaskImportReader {
+
+    /**
+     * Returns the next record, or {@code null} at the end of the stream.
+     */
+    TaskImportRecord next() throws IOException;
+}
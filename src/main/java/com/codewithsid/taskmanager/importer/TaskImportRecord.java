@@ -0,0 +1,18 @@
+package com.codewithsid.taskmanager.importer;
+
+import com.codewithsid.taskmanager.model.Task;
+
+/**
+ * One record read from an import stream: either a parsed task or the reason it could not
+ * be parsed, together with the line the record starts on.
+ */
+public record TaskImportRecord(long line, Task task, String error) {
+
+    static TaskImportRecord parsed(long line, Task task) {
+        return new TaskImportRecord(line, task, null);
+    }
+
+    static TaskImportRecord unparseable(long line, String error) {
+        return new TaskImportRecord(line, null, error);
+    }
+}
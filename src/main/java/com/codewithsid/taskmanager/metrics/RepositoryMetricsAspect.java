@@ -0,0 +1,86 @@
+package com.codewithsid.taskmanager.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Times every call on the task repository, tagged by query (repository method) name, and
+ * records how many rows each call returned. Calls slower than
+ * {@code task.metrics.slow-query-threshold} are logged with their arguments.
+ *
+ * <p>Streams are timed until the stream is returned, not until it is consumed, and their
+ * rows are not counted.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RepositoryMetricsAspect {
+
+    public static final String QUERY_TIMER = "task.repository.query";
+    public static final String ROWS_SUMMARY = "task.repository.rows";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${task.metrics.slow-query-threshold:500ms}")
+    private Duration slowQueryThreshold;
+
+    @Around("execution(* *(..)) && this(com.codewithsid.taskmanager.repository.TaskRepository)")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String query = joinPoint.getSignature().getName();
+        String exception = "none";
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            recordRows(query, result);
+            return result;
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Timer.builder(QUERY_TIMER)
+                    .description("Task repository query latency")
+                    .tag("query", query)
+                    .tag("exception", exception)
+                    .register(meterRegistry)
+                    .record(Duration.ofNanos(elapsed));
+            if (elapsed >= slowQueryThreshold.toNanos()) {
+                log.warn("Slow repository query {} took {} ms, args: {}", query, elapsed / 1_000_000,
+                        joinPoint.getArgs());
+            }
+        }
+    }
+
+    private void recordRows(String query, Object result) {
+        long rows;
+        if (result instanceof Collection<?> collection) {
+            rows = collection.size();
+        } else if (result instanceof Slice<?> slice) {
+            rows = slice.getNumberOfElements();
+        } else if (result instanceof Optional<?> optional) {
+            rows = optional.isPresent() ? 1 : 0;
+        } else {
+            return;
+        }
+        DistributionSummary.builder(ROWS_SUMMARY)
+                .description("Rows returned per task repository query")
+                .baseUnit("rows")
+                .tag("query", query)
+                .register(meterRegistry)
+                .record(rows);
+    }
+}
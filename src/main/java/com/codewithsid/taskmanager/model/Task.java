@@ -1,26 +1,45 @@
 package com.codewithsid.taskmanager.model;
+
+import com.codewithsid.taskmanager.dictionary.CategoryConverter;
+import com.codewithsid.taskmanager.dictionary.PersonConverter;
+import com.codewithsid.taskmanager.dictionary.TaskDictionaryListener;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+// Category and people are stored as dictionary keys; the reactive API reads TaskView
+// rows from task_view, which joins the names back in. Queries see only unarchived tasks
+// unless the active filter is disabled; loading by id still reaches archived ones.
 @Entity
 @Table(name = "tasks")
+@EntityListeners(TaskDictionaryListener.class)
+@FilterDef(name = Task.ACTIVE_FILTER, defaultCondition = "archived = false", autoEnabled = true,
+        applyToLoadByKey = false)
+@Filter(name = Task.ACTIVE_FILTER)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class Task {
 
+    public static final String ACTIVE_FILTER = "activeTasks";
+
+    // Pooled sequence ids keep JDBC insert batching possible, unlike IDENTITY
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Title is required")
@@ -49,11 +68,13 @@ public class Task {
     @NotBlank(message = "Category is required")
     @Size(max = 50, message = "Category must not exceed 50 characters")
     @Builder.Default
-    @Column(nullable = false, length = 50)
+    @Convert(converter = CategoryConverter.class)
+    @Column(name = "category_id", nullable = false)
     private String category = "General";
 
     @Size(max = 100, message = "Assigned to must not exceed 100 characters")
-    @Column(name = "assigned_to", length = 100)
+    @Convert(converter = PersonConverter.class)
+    @Column(name = "assigned_to_id")
     private String assignedTo;
 
     @Min(value = 0, message = "Estimated hours must be non-negative")
@@ -72,9 +93,24 @@ public class Task {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
-    @Column(name = "created_by", length = 100)
+    @Convert(converter = PersonConverter.class)
+    @Column(name = "created_by_id")
     private String createdBy;
 
+    // Optimistic lock; also the source of the task's ETag
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    // Set when the task moves to the archive; archived tasks are read-only
+    @Builder.Default
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private boolean archived = false;
+
     // Enum for Task Status
     public enum TaskStatus {
         TODO("To Do"),
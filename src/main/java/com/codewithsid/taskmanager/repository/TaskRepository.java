@@ -4,6 +4,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -11,10 +12,12 @@ import com.codewithsid.taskmanager.model.Task;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskRepositoryCustom {
 
     // Find tasks by status
     List<Task> findByStatus(Task.TaskStatus status);
@@ -43,6 +46,14 @@ public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificat
     @Query("SELECT t FROM Task t WHERE t.dueDate BETWEEN :startDate AND :endDate AND t.status NOT IN ('COMPLETED', 'CANCELLED')")
     List<Task> findTasksDueWithinDays(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
     
+    // Ids and due dates of open tasks, for the due date index
+    @Query("SELECT t.id, t.dueDate FROM Task t WHERE t.dueDate IS NOT NULL AND t.status NOT IN ('COMPLETED', 'CANCELLED')")
+    List<Object[]> getOpenTaskDueDates();
+    
+    // Count open tasks per due date
+    @Query("SELECT t.dueDate, COUNT(t) FROM Task t WHERE t.dueDate IS NOT NULL AND t.status NOT IN ('COMPLETED', 'CANCELLED') GROUP BY t.dueDate")
+    List<Object[]> getOpenTaskCountByDueDate();
+    
     // Find completed tasks
     List<Task> findByStatusOrderByCompletionDateDesc(Task.TaskStatus status);
     
@@ -87,11 +98,43 @@ public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificat
     // Search tasks by title or description
     @Query("SELECT t FROM Task t WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     List<Task> searchTasks(@Param("searchTerm") String searchTerm);
+
+    // Search tasks by title or description with pagination (used until the search index is built)
+    @Query("SELECT t FROM Task t WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
+    Page<Task> searchTasks(@Param("searchTerm") String searchTerm, Pageable pageable);
     
     // Count tasks by assignee
     @Query("SELECT t.assignedTo, COUNT(t) FROM Task t WHERE t.assignedTo IS NOT NULL GROUP BY t.assignedTo")
     List<Object[]> getTaskCountByAssignee();
     
+    // Set the status of many tasks at once, keeping an existing completion date
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.completionDate = COALESCE(t.completionDate, :now), t.updatedAt = :now, t.version = t.version + 1 WHERE t.id IN :ids")
+    int bulkUpdateStatusKeepingCompletionDate(@Param("ids") Collection<Long> ids,
+                                              @Param("status") Task.TaskStatus status,
+                                              @Param("now") LocalDateTime now);
+    
+    // Set the status of many tasks at once, clearing the completion date
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.completionDate = NULL, t.updatedAt = :now, t.version = t.version + 1 WHERE t.id IN :ids")
+    int bulkUpdateStatusClearingCompletionDate(@Param("ids") Collection<Long> ids,
+                                               @Param("status") Task.TaskStatus status,
+                                               @Param("now") LocalDateTime now);
+    
+    // Delete many tasks with one statement
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int bulkDeleteByIds(@Param("ids") Collection<Long> ids);
+    
+    // Completed or cancelled tasks last updated before the cutoff, oldest first
+    @Query("SELECT t FROM Task t WHERE t.status IN ('COMPLETED', 'CANCELLED') AND t.updatedAt < :cutoff ORDER BY t.updatedAt, t.id")
+    List<Task> findArchivableTasks(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+    
+    // Move many tasks to the archive with one statement
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.archived = true, t.version = t.version + 1 WHERE t.id IN :ids")
+    int archiveByIds(@Param("ids") Collection<Long> ids);
+    
     // Find tasks without due date
     List<Task> findByDueDateIsNull();
     
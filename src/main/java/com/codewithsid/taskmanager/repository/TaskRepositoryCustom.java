@@ -0,0 +1,47 @@
+package com.codewithsid.taskmanager.repository;
+
+import com.codewithsid.taskmanager.dto.TaskSummary;
+import com.codewithsid.taskmanager.model.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Number of matching tasks and the latest update among them. Any change to the set
+     * changes at least one of the two.
+     */
+    record CollectionVersion(long count, LocalDateTime lastUpdatedAt) {
+    }
+
+    /**
+     * Streams the tasks matching the specification in id order, fetching {@code fetchSize}
+     * rows per round trip. Must be consumed inside a transaction and closed afterwards.
+     */
+    Stream<Task> streamAll(Specification<Task> spec, int fetchSize);
+
+    /**
+     * Like {@code findAll(spec, pageable)}, but sorts category and people by name rather
+     * than by their dictionary keys.
+     */
+    Page<Task> findTasks(Specification<Task> spec, Pageable pageable);
+
+    /**
+     * Selects only the summary columns of the matching tasks.
+     */
+    Page<TaskSummary> findSummaries(Specification<Task> spec, Pageable pageable);
+
+    /**
+     * Selects only the named attributes of the matching tasks, keyed by attribute name in
+     * the order given. Null values are left out.
+     */
+    Page<Map<String, Object>> findFields(Specification<Task> spec, Collection<String> fields, Pageable pageable);
+
+    CollectionVersion findCollectionVersion(Specification<Task> spec);
+}
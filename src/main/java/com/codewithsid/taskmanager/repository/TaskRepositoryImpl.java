@@ -0,0 +1,153 @@
+package com.codewithsid.taskmanager.repository;
+
+import com.codewithsid.taskmanager.dto.TaskSummary;
+import com.codewithsid.taskmanager.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    private static final Map<String, String> NAME_TABLES = Map.of(
+            "category", "task_categories",
+            "assignedTo", "task_people",
+            "createdBy", "task_people");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Task> streamAll(Specification<Task> spec, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        applySpecification(spec, root, query, cb);
+        query.orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public Page<Task> findTasks(Specification<Task> spec, Pageable pageable) {
+        return findPage(Task.class, spec, pageable, root -> root);
+    }
+
+    @Override
+    public Page<TaskSummary> findSummaries(Specification<Task> spec, Pageable pageable) {
+        return findPage(TaskSummary.class, spec, pageable, root -> entityManager.getCriteriaBuilder().construct(
+                TaskSummary.class,
+                root.get("id"), root.get("title"), root.get("status"), root.get("priority"), root.get("dueDate")));
+    }
+
+    @Override
+    public Page<Map<String, Object>> findFields(Specification<Task> spec, Collection<String> fields,
+                                                Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        Page<Tuple> tuples = findPage(Tuple.class, spec, pageable, root -> cb.tuple(
+                fields.stream().map(field -> root.get(field).alias(field)).toArray(Selection<?>[]::new)));
+
+        return tuples.map(tuple -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (TupleElement<?> element : tuple.getElements()) {
+                Object value = tuple.get(element);
+                if (value != null) {
+                    row.put(element.getAlias(), value);
+                }
+            }
+            return row;
+        });
+    }
+
+    @Override
+    public CollectionVersion findCollectionVersion(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        query.multiselect(cb.count(root), cb.greatest(root.<LocalDateTime>get("updatedAt")));
+        applySpecification(spec, root, query, cb);
+
+        Tuple result = entityManager.createQuery(query).getSingleResult();
+        return new CollectionVersion(result.get(0, Long.class), result.get(1, LocalDateTime.class));
+    }
+
+    private <T> Page<T> findPage(Class<T> resultType, Specification<Task> spec, Pageable pageable,
+                                 Function<Root<Task>, Selection<? extends T>> selection) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(resultType);
+        Root<Task> root = query.from(Task.class);
+        query.select(selection.apply(root));
+        applySpecification(spec, root, query, cb);
+        query.orderBy(toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<T> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<T> content = typedQuery.getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    // Tasks store dictionary keys, so names are sorted through their lookup table
+    private static List<Order> toOrders(Sort sort, Root<Task> root, CriteriaBuilder cb) {
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String table = NAME_TABLES.get(order.getProperty());
+            if (table == null) {
+                orders.addAll(QueryUtils.toOrders(Sort.by(order), root, cb));
+                continue;
+            }
+            Expression<String> name = ((HibernateCriteriaBuilder) cb).sql(
+                    "(SELECT d.name FROM " + table + " d WHERE d.id = ?)", String.class,
+                    root.get(order.getProperty()));
+            orders.add(order.isAscending() ? cb.asc(name) : cb.desc(name));
+        }
+        return orders;
+    }
+
+    private long count(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(cb.count(root));
+        applySpecification(spec, root, query, cb);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private void applySpecification(Specification<Task> spec, Root<Task> root, CriteriaQuery<?> query,
+                                    CriteriaBuilder cb) {
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
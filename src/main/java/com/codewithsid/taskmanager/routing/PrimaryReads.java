@@ -0,0 +1,32 @@
+package com.codewithsid.taskmanager.routing;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks reads that must see the primary's latest commit even inside a read-only
+ * transaction, such as reads whose result is cached beyond the request. Only connections
+ * obtained while the read runs are affected; without replicas this changes nothing.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> read) {
+        if (ACTIVE.get() != null) {
+            return read.get();
+        }
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+
+    public static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+}
@@ -0,0 +1,80 @@
+package com.codewithsid.taskmanager.routing;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * Keeps a client's reads on the primary after it writes, so it sees its own changes even
+ * while the replicas are catching up. The rest of the writing request is pinned. The
+ * response carries a cookie that pins the client's following requests for the configured
+ * window. Writes made outside an HTTP request pin nothing.
+ */
+public class ReadYourWrites {
+
+    public static final String COOKIE_NAME = "TASK_PRIMARY_UNTIL";
+
+    private static final String PINNED_ATTRIBUTE = ReadYourWrites.class.getName() + ".PINNED";
+
+    private final Duration window;
+
+    public ReadYourWrites(Duration window) {
+        this.window = window;
+    }
+
+    public boolean isPinnedToPrimary() {
+        HttpServletRequest request = currentRequest();
+        if (request == null) {
+            return false;
+        }
+        if (request.getAttribute(PINNED_ATTRIBUTE) != null) {
+            return true;
+        }
+        if (request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (COOKIE_NAME.equals(cookie.getName()) && pinnedUntil(cookie.getValue()) > System.currentTimeMillis()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public void markWrite() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        if (request.getAttribute(PINNED_ATTRIBUTE) != null) {
+            return;
+        }
+        request.setAttribute(PINNED_ATTRIBUTE, Boolean.TRUE);
+
+        HttpServletResponse response = attributes.getResponse();
+        if (response != null && !response.isCommitted() && !window.isZero()) {
+            Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(System.currentTimeMillis() + window.toMillis()));
+            cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+        }
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest()
+                : null;
+    }
+
+    private static long pinnedUntil(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.codewithsid.taskmanager.routing;
+
+import lombok.Getter;
+
+import javax.sql.DataSource;
+
+/**
+ * A read replica pool and its last known replication state. Replicas receive no reads
+ * until the first lag check has found them within the allowed lag.
+ */
+@Getter
+public class Replica {
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean available;
+    private volatile double lagSeconds = Double.NaN;
+
+    public Replica(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    void update(boolean available, double lagSeconds) {
+        this.available = available;
+        this.lagSeconds = lagSeconds;
+    }
+}
@@ -0,0 +1,49 @@
+package com.codewithsid.taskmanager.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Runs the lag query on every replica and takes replicas out of rotation while they are
+ * more than {@code task.replicas.max-lag} behind or cannot be reached.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, String lagQuery, Duration maxLag) {
+        this.routingDataSource = routingDataSource;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+    }
+
+    @Scheduled(fixedDelayString = "${task.replicas.lag-check-interval:PT5S}")
+    public void checkLag() {
+        for (Replica replica : routingDataSource.getReplicas()) {
+            try (Connection connection = replica.getDataSource().getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : Double.NaN;
+                boolean available = lagSeconds <= maxLagSeconds;
+                if (available != replica.isAvailable()) {
+                    log.info("Replica {} is {} at {}s lag", replica.getName(), available ? "back in rotation" : "out of rotation", lagSeconds);
+                }
+                replica.update(available, lagSeconds);
+            } catch (SQLException ex) {
+                if (replica.isAvailable()) {
+                    log.warn("Replica {} is out of rotation: {}", replica.getName(), ex.getMessage());
+                }
+                replica.update(false, Double.NaN);
+            }
+        }
+    }
+}
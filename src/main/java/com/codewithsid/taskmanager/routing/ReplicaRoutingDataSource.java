@@ -0,0 +1,96 @@
+package com.codewithsid.taskmanager.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to the replica pools, round robin, and everything else to
+ * the primary. A read goes to the primary as well when the current client has written
+ * recently (see {@link ReadYourWrites}), inside {@link PrimaryReads#call}, or when no replica
+ * is available.
+ *
+ * <p>The transaction's read-only flag is only known once the transaction has started, so
+ * this data source must be wrapped in a {@code LazyConnectionDataSourceProxy}. That proxy
+ * delays the routing decision until the first statement runs.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas;
+    private final ReadYourWrites readYourWrites;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, ReadYourWrites readYourWrites,
+                                    MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.readYourWrites = readYourWrites;
+        this.meterRegistry = meterRegistry;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (Replica replica : replicas) {
+            targets.put(replica.getName(), replica.getDataSource());
+            Gauge.builder("task.datasource.replica.lag", replica, Replica::getLagSeconds)
+                    .description("Replication lag of the replica at the last check, in seconds")
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String target = route();
+        Counter.builder("task.datasource.routed")
+                .description("Connections handed out, by the pool they came from")
+                .tag("target", target)
+                .register(meterRegistry)
+                .increment();
+        return target;
+    }
+
+    private String route() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWrites.markWrite();
+            return PRIMARY;
+        }
+        if (readYourWrites.isPinnedToPrimary() || PrimaryReads.isActive()) {
+            return PRIMARY;
+        }
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+            if (replica.isAvailable()) {
+                return replica.getName();
+            }
+        }
+        return PRIMARY;
+    }
+
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.getDataSource() instanceof HikariDataSource hikari) {
+                hikari.close();
+            }
+        }
+    }
+}
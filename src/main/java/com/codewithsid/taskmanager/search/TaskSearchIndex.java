@@ -0,0 +1,311 @@
+package com.codewithsid.taskmanager.search;
+
+import com.codewithsid.taskmanager.event.TaskChangedEvent;
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.repository.TaskRepository;
+import com.codewithsid.taskmanager.routing.PrimaryReads;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over task titles and descriptions, ranked with BM25.
+ *
+ * <p>Every query term must match (AND semantics); a term matches indexed tokens equal to it
+ * or starting with it, exact matches scoring higher. Title occurrences weigh more than
+ * description occurrences. The index is built once the application is ready and kept
+ * current from {@link TaskChangedEvent}s after each transaction commits.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 2;
+    private static final double PREFIX_MATCH_WEIGHT = 0.5;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final TaskRepository taskRepository;
+
+    @Value("${task.search.index-on-startup:true}")
+    private boolean indexOnStartup;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment = new Segment();
+    // Changes received while a rebuild reads the tasks; null when no rebuild is running
+    private List<Change> changesDuringRebuild;
+    private volatile boolean ready;
+
+    public record SearchHit(Long taskId, double score) {
+    }
+
+    // A task to index again, or to remove when current is null
+    private record Change(Long taskId, Task current) {
+    }
+
+    private record Document(Map<String, Integer> termFrequencies, int length) {
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (indexOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Builds a new index from the tasks table and swaps it in. Searches keep using the
+     * current index meanwhile. Changes that arrive during the rebuild are applied to both
+     * and replayed onto the new index before the swap, so none is lost whichever page of
+     * the table they land in.
+     */
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment rebuilt = new Segment();
+        try {
+            Page<Task> page;
+            int pageNumber = 0;
+            do {
+                // From the primary, which has every change already applied to the live index
+                PageRequest pageRequest = PageRequest.of(pageNumber++, REBUILD_BATCH_SIZE, Sort.by("id"));
+                page = PrimaryReads.call(() -> taskRepository.findAll(pageRequest));
+                page.forEach(task -> rebuilt.add(task.getId(), analyze(task)));
+            } while (page.hasNext());
+        } catch (RuntimeException ex) {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Change change : changesDuringRebuild) {
+                rebuilt.remove(change.taskId());
+                if (change.current() != null) {
+                    rebuilt.add(change.taskId(), analyze(change.current()));
+                }
+            }
+            changesDuringRebuild = null;
+            segment = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Search index built with {} tasks in {} ms", size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getCurrent() == null) {
+            remove(event.getTaskId());
+        } else {
+            index(event.getCurrent());
+        }
+    }
+
+    public void index(Task task) {
+        Document document = analyze(task);
+        lock.writeLock().lock();
+        try {
+            segment.remove(task.getId());
+            segment.add(task.getId(), document);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(new Change(task.getId(), task));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long taskId) {
+        lock.writeLock().lock();
+        try {
+            segment.remove(taskId);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(new Change(taskId, null));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            segment = new Segment();
+            ready = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns every task matching all terms of the query, best match first.
+     */
+    public List<SearchHit> search(String query) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Document> documents = segment.documents;
+            int documentCount = documents.size();
+            double averageLength = documentCount == 0 ? 0 : (double) segment.totalLength / documentCount;
+            Map<Long, Double> scores = null;
+
+            for (String term : new HashSet<>(terms)) {
+                Map<Long, Double> termScores = new HashMap<>();
+                for (Map.Entry<String, Map<Long, Integer>> entry : segment.expand(term).entrySet()) {
+                    double weight = entry.getKey().equals(term) ? 1.0 : PREFIX_MATCH_WEIGHT;
+                    Map<Long, Integer> docs = entry.getValue();
+                    double idf = Math.log(1 + (documentCount - docs.size() + 0.5) / (docs.size() + 0.5));
+                    docs.forEach((taskId, frequency) -> {
+                        double norm = K1 * (1 - B + B * documents.get(taskId).length() / averageLength);
+                        double score = weight * idf * frequency * (K1 + 1) / (frequency + norm);
+                        termScores.merge(taskId, score, Math::max);
+                    });
+                }
+
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((taskId, score) -> score + termScores.get(taskId));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<SearchHit> hits = new ArrayList<>(scores.size());
+            scores.forEach((taskId, score) -> hits.add(new SearchHit(taskId, score)));
+            hits.sort(Comparator.comparingDouble(SearchHit::score).reversed()
+                    .thenComparing(SearchHit::taskId, Comparator.reverseOrder()));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Splits text into lower-case runs of letters and digits.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            if (Character.isLetterOrDigit(codePoint)) {
+                current.appendCodePoint(Character.toLowerCase(codePoint));
+            } else if (!current.isEmpty()) {
+                tokens.add(current.toString());
+                current.setLength(0);
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (!current.isEmpty()) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    private static Document analyze(Task task) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        for (String token : tokenize(task.getTitle())) {
+            frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+            length += TITLE_WEIGHT;
+        }
+        for (String token : tokenize(task.getDescription())) {
+            frequencies.merge(token, 1, Integer::sum);
+            length++;
+        }
+        return new Document(frequencies, length);
+    }
+
+    /**
+     * Postings and document lengths of one generation of the index.
+     */
+    private static final class Segment {
+        private final TreeMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+        private final Map<Long, Document> documents = new HashMap<>();
+        private long totalLength;
+
+        void add(Long taskId, Document document) {
+            document.termFrequencies().forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(taskId, frequency));
+            documents.put(taskId, document);
+            totalLength += document.length();
+        }
+
+        void remove(Long taskId) {
+            Document document = documents.remove(taskId);
+            if (document == null) {
+                return;
+            }
+            totalLength -= document.length();
+            for (String term : document.termFrequencies().keySet()) {
+                Map<Long, Integer> docs = postings.get(term);
+                if (docs != null) {
+                    docs.remove(taskId);
+                    if (docs.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+
+        SortedMap<String, Map<Long, Integer>> expand(String term) {
+            return postings.subMap(term, term + Character.MAX_VALUE);
+        }
+    }
+}
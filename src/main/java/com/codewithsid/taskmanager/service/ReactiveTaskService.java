@@ -0,0 +1,89 @@
+package com.codewithsid.taskmanager.service;
+
+import com.codewithsid.taskmanager.dictionary.TaskDictionaries;
+import com.codewithsid.taskmanager.dto.TaskFilter;
+import com.codewithsid.taskmanager.dto.TaskView;
+import com.codewithsid.taskmanager.exception.TaskException;
+import com.codewithsid.taskmanager.search.TaskSearchIndex;
+import com.codewithsid.taskmanager.specification.TaskCriteria;
+import com.codewithsid.taskmanager.statistics.TaskStatisticsAggregator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking reads of tasks over R2DBC. Mirrors the read methods of {@link TaskService}
+ * with the same filter semantics (see {@link TaskCriteria}); rows are emitted as the
+ * database returns them and only as fast as the subscriber requests them.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveTaskService {
+
+    private final R2dbcEntityTemplate template;
+    private final TaskSearchIndex searchIndex;
+    private final TaskStatisticsAggregator statisticsAggregator;
+    private final TaskDictionaries dictionaries;
+
+    public Flux<TaskView> filterTasks(TaskFilter filter, Pageable pageable) {
+        log.debug("Streaming tasks with filter: {}", filter);
+        return Flux.defer(() -> {
+            Criteria criteria = filterCriteria(filter);
+            return criteria == null ? Flux.empty() : select(Query.query(criteria).with(pageable));
+        });
+    }
+
+    public Mono<TaskView> getTaskById(Long id) {
+        return template.select(TaskView.class)
+                .matching(Query.query(Criteria.where("id").is(id)))
+                .one()
+                .switchIfEmpty(Mono.error(() -> TaskException.notFound("Task not found with id: " + id)));
+    }
+
+    public Flux<TaskView> getOverdueTasks() {
+        return select(Query.query(TaskCriteria.isOverdue(LocalDate.now())));
+    }
+
+    public Flux<TaskView> getTasksDueWithin(int days) {
+        LocalDate startDate = LocalDate.now();
+        return select(Query.query(TaskCriteria.isDueBetween(startDate, startDate.plusDays(days))));
+    }
+
+    public Mono<Map<String, Object>> getTaskStatistics() {
+        return Mono.fromSupplier(statisticsAggregator::snapshot);
+    }
+
+    /**
+     * Builds the filter criteria, answering the search term from the search index like
+     * {@link TaskService} does. Returns null when the index has no match.
+     */
+    private Criteria filterCriteria(TaskFilter filter) {
+        String searchTerm = filter.getSearchTerm();
+        if (searchTerm == null || !searchIndex.isReady() || filter.isIncludeArchived()) {
+            return TaskCriteria.fromFilter(filter, dictionaries);
+        }
+
+        List<TaskSearchIndex.SearchHit> hits = searchIndex.search(searchTerm);
+        if (hits.isEmpty()) {
+            return null;
+        }
+        TaskFilter withoutSearchTerm = filter.toBuilder().searchTerm(null).build();
+        List<Long> ids = hits.stream().map(TaskSearchIndex.SearchHit::taskId).toList();
+        return TaskCriteria.fromFilter(withoutSearchTerm, dictionaries).and(TaskCriteria.hasIdIn(ids));
+    }
+
+    private Flux<TaskView> select(Query query) {
+        return template.select(TaskView.class).matching(query).all();
+    }
+}
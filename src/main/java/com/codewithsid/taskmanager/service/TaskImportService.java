@@ -0,0 +1,97 @@
+package com.codewithsid.taskmanager.service;
+
+import com.codewithsid.taskmanager.dto.BatchItemResult;
+import com.codewithsid.taskmanager.dto.BatchResult;
+import com.codewithsid.taskmanager.dto.ImportResult;
+import com.codewithsid.taskmanager.importer.TaskImportReader;
+import com.codewithsid.taskmanager.importer.TaskImportRecord;
+import com.codewithsid.taskmanager.model.Task;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Imports tasks from a stream of records. Records are collected into chunks and each chunk
+ * is created and committed by {@link TaskService#createTasks(List)} in its own transaction,
+ * so at most one chunk is held in memory. The next chunk is only read once the previous one
+ * has committed, which paces the client upload to the database write rate.
+ */
+@Service
+@Timed(value = "task.service", description = "Task service method latency")
+@RequiredArgsConstructor
+@Slf4j
+public class TaskImportService {
+
+    private final TaskService taskService;
+
+    @Value("${task.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${task.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    public ImportResult importTasks(TaskImportReader reader) throws IOException {
+        long start = System.currentTimeMillis();
+        ImportResult result = ImportResult.builder().errors(new ArrayList<>()).build();
+        List<Task> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+
+        TaskImportRecord record;
+        while ((record = reader.next()) != null) {
+            result.setRecordsRead(result.getRecordsRead() + 1);
+            if (record.error() != null) {
+                addError(result, record.line(), Map.of("record", record.error()));
+                continue;
+            }
+            chunk.add(record.task());
+            chunkLines.add(record.line());
+            if (chunk.size() == chunkSize) {
+                commitChunk(result, chunk, chunkLines, start);
+            }
+        }
+        commitChunk(result, chunk, chunkLines, start);
+
+        // Parse errors are found on read, validation errors on commit
+        result.getErrors().sort(Comparator.comparingLong(ImportResult.LineError::getLine));
+        result.setElapsedMillis(System.currentTimeMillis() - start);
+        log.info("Imported {} of {} tasks in {} ms", result.getImportedCount(), result.getRecordsRead(),
+                result.getElapsedMillis());
+        return result;
+    }
+
+    private void commitChunk(ImportResult result, List<Task> chunk, List<Long> chunkLines, long start) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        BatchResult batch = taskService.createTasks(chunk);
+        for (BatchItemResult item : batch.getItems()) {
+            if (item.getOutcome() == BatchItemResult.Outcome.INVALID) {
+                addError(result, chunkLines.get(item.getIndex()), item.getErrors());
+            }
+        }
+        result.setImportedCount(result.getImportedCount() + batch.getSucceededCount());
+        result.setChunksCommitted(result.getChunksCommitted() + 1);
+        log.debug("Import progress: {} records read, {} imported, {} failed after {} ms",
+                result.getRecordsRead(), result.getImportedCount(), result.getFailedCount(),
+                System.currentTimeMillis() - start);
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    private void addError(ImportResult result, long line, Map<String, String> errors) {
+        result.setFailedCount(result.getFailedCount() + 1);
+        if (result.getErrors().size() < maxReportedErrors) {
+            result.getErrors().add(new ImportResult.LineError(line, errors));
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+}
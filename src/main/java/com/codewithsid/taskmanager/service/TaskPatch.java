@@ -0,0 +1,137 @@
+package com.codewithsid.taskmanager.service;
+
+import com.codewithsid.taskmanager.model.Task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Field updates of a PATCH request, converted to the task's field types. Values of the
+ * wrong type are collected in {@link #errors()} when the patch is parsed, so a bad request
+ * never fails halfway through applying it. A strict patch also rejects unknown and
+ * read-only fields and an empty set of changes; otherwise those are ignored, as the
+ * single-task PATCH always did for clients that send the whole task back.
+ */
+final class TaskPatch {
+
+    private final boolean strict;
+    private final List<Consumer<Task>> setters = new ArrayList<>();
+    private final Map<String, String> errors = new LinkedHashMap<>();
+
+    private TaskPatch(boolean strict) {
+        this.strict = strict;
+    }
+
+    static TaskPatch parse(Map<String, Object> updates, boolean strict) {
+        TaskPatch patch = new TaskPatch(strict);
+        if (updates == null || updates.isEmpty()) {
+            if (strict) {
+                patch.errors.put("changes", "At least one field to change is required");
+            }
+            return patch;
+        }
+        updates.forEach(patch::parseField);
+        return patch;
+    }
+
+    boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    Map<String, String> errors() {
+        return errors;
+    }
+
+    void applyTo(Task task) {
+        setters.forEach(setter -> setter.accept(task));
+    }
+
+    private void parseField(String field, Object value) {
+        switch (field) {
+            case "title" -> string(field, value, Task::setTitle);
+            case "description" -> string(field, value, Task::setDescription);
+            case "category" -> string(field, value, Task::setCategory);
+            case "assignedTo" -> string(field, value, Task::setAssignedTo);
+            case "createdBy" -> string(field, value, Task::setCreatedBy);
+            case "dueDate" -> dueDate(value);
+            case "estimatedHours" -> estimatedHours(value);
+            case "priority" -> {
+                Task.Priority priority = enumValue(field, value, Task.Priority.class);
+                if (priority != null) {
+                    setters.add(task -> task.setPriority(priority));
+                }
+            }
+            case "status" -> {
+                Task.TaskStatus status = enumValue(field, value, Task.TaskStatus.class);
+                if (status != null) {
+                    setters.add(task -> setStatus(task, status));
+                }
+            }
+            default -> {
+                if (strict) {
+                    errors.put(field, "Unknown or read-only field");
+                }
+            }
+        }
+    }
+
+    private void string(String field, Object value, BiConsumer<Task, String> setter) {
+        if (value != null && !(value instanceof String)) {
+            errors.put(field, "Must be a string");
+            return;
+        }
+        setters.add(task -> setter.accept(task, (String) value));
+    }
+
+    private void dueDate(Object value) {
+        if (value == null) {
+            setters.add(task -> task.setDueDate(null));
+            return;
+        }
+        try {
+            LocalDate dueDate = LocalDate.parse(String.valueOf(value));
+            setters.add(task -> task.setDueDate(dueDate));
+        } catch (DateTimeParseException ex) {
+            errors.put("dueDate", "Must be a date in yyyy-MM-dd format");
+        }
+    }
+
+    private void estimatedHours(Object value) {
+        if (value == null) {
+            setters.add(task -> task.setEstimatedHours(null));
+        } else if (value instanceof Integer hours) {
+            setters.add(task -> task.setEstimatedHours(hours));
+        } else {
+            errors.put("estimatedHours", "Must be a whole number");
+        }
+    }
+
+    private <E extends Enum<E>> E enumValue(String field, Object value, Class<E> type) {
+        if (value instanceof String name) {
+            for (E constant : type.getEnumConstants()) {
+                if (constant.name().equals(name)) {
+                    return constant;
+                }
+            }
+        }
+        errors.put(field, "Must be one of " + Arrays.toString(type.getEnumConstants()));
+        return null;
+    }
+
+    private static void setStatus(Task task, Task.TaskStatus status) {
+        task.setStatus(status);
+        if (status == Task.TaskStatus.COMPLETED && task.getCompletionDate() == null) {
+            task.setCompletionDate(LocalDateTime.now());
+        } else if (status != Task.TaskStatus.COMPLETED) {
+            task.setCompletionDate(null);
+        }
+    }
+}
@@ -1,53 +1,193 @@
 package com.codewithsid.taskmanager.service;
 
-import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.cache.QueryCoalescer;
+import com.codewithsid.taskmanager.cache.TaskCacheInvalidator;
+import com.codewithsid.taskmanager.dto.AssigneeWorkload;
+import com.codewithsid.taskmanager.dto.BatchItemResult;
+import com.codewithsid.taskmanager.dto.BatchResult;
+import com.codewithsid.taskmanager.dto.BulkOperationResult;
+import com.codewithsid.taskmanager.dto.CursorPage;
+import com.codewithsid.taskmanager.dto.TaskFilter;
+import com.codewithsid.taskmanager.dto.TaskPatchRequest;
+import com.codewithsid.taskmanager.dto.TaskSummary;
+import com.codewithsid.taskmanager.duedate.TaskDueDateIndex;
+import com.codewithsid.taskmanager.event.TaskChangedEvent;
 import com.codewithsid.taskmanager.exception.TaskException;
+import com.codewithsid.taskmanager.export.TaskExportWriter;
+import com.codewithsid.taskmanager.model.Task;
 import com.codewithsid.taskmanager.repository.TaskRepository;
+import com.codewithsid.taskmanager.repository.TaskRepositoryCustom;
+import com.codewithsid.taskmanager.routing.PrimaryReads;
+import com.codewithsid.taskmanager.search.TaskSearchIndex;
+import com.codewithsid.taskmanager.specification.TaskCursor;
 import com.codewithsid.taskmanager.specification.TaskSpecification;
+import com.codewithsid.taskmanager.statistics.TaskStatisticsAggregator;
+import com.codewithsid.taskmanager.workload.TaskWorkloadRollup;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "task.service", description = "Task service method latency")
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class TaskService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    public static final List<String> SELECTABLE_FIELDS = List.of("id", "title", "description", "status",
+            "priority", "category", "assignedTo", "createdBy", "dueDate", "estimatedHours", "completionDate",
+            "createdAt", "updatedAt");
+
     private final TaskRepository taskRepository;
+    private final TaskSearchIndex searchIndex;
+    private final TaskDueDateIndex dueDateIndex;
+    private final TaskStatisticsAggregator statisticsAggregator;
+    private final TaskWorkloadRollup workloadRollup;
+    private final QueryCoalescer queryCoalescer;
+    private final TaskCacheInvalidator taskCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final Validator validator;
+
+    @Value("${task.bulk.chunk-size:1000}")
+    private int bulkChunkSize;
+
+    @Value("${task.export.fetch-size:500}")
+    private int exportFetchSize;
+
+    @Value("${task.batch.max-size:10000}")
+    private int batchMaxSize;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize;
 
     public Page<Task> getAllTasks(Pageable pageable) {
         log.debug("Fetching all tasks with pagination: {}", pageable);
-        return taskRepository.findAll(pageable);
+        return taskRepository.findTasks(Specification.allOf(), pageable);
     }
 
+    /**
+     * Served from the {@code tasks} cache when possible. The returned task may be shared
+     * with other callers and must not be modified; mutations load the task through
+     * {@link #findTask(Long)} instead. Archived tasks are found as well. Cache misses read
+     * the primary, so a lagging replica cannot put an old version in the cache.
+     */
     public Task getTaskById(Long id) {
         log.debug("Fetching task with id: {}", id);
-        return taskRepository.findById(id)
-                .orElseThrow(() -> TaskException.notFound("Task not found with id: " + id));
+        return taskCache.get(id, () -> PrimaryReads.call(() -> taskRepository.findById(id))
+                .orElseThrow(() -> TaskException.notFound("Task not found with id: " + id)));
     }
 
     @Transactional
     public Task createTask(Task task) {
         log.debug("Creating new task: {}", task.getTitle());
         validateTask(task);
-        return taskRepository.save(task);
+        Task savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.created(savedTask));
+        return savedTask;
+    }
+
+    /**
+     * Creates many tasks in one transaction. Each task is checked against the same rules
+     * as {@link #createTask(Task)}; invalid items are reported and skipped. Valid tasks
+     * are persisted in JDBC batches, clearing the persistence context between batches.
+     */
+    @Transactional
+    public BatchResult createTasks(List<Task> tasks) {
+        log.debug("Creating {} tasks in batch", tasks.size());
+        if (tasks.isEmpty()) {
+            throw TaskException.badRequest("At least one task is required");
+        }
+        if (tasks.size() > batchMaxSize) {
+            throw TaskException.badRequest("A batch may contain at most " + batchMaxSize + " tasks");
+        }
+
+        List<BatchItemResult> items = new ArrayList<>(tasks.size());
+        List<Task> pending = new ArrayList<>(jdbcBatchSize);
+        List<BatchItemResult> pendingItems = new ArrayList<>(jdbcBatchSize);
+
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            Map<String, String> errors = validationErrors(task);
+            if (!errors.isEmpty()) {
+                items.add(BatchItemResult.builder().index(i).outcome(BatchItemResult.Outcome.INVALID)
+                        .errors(errors).build());
+                continue;
+            }
+
+            task.setId(null);
+            BatchItemResult item = BatchItemResult.builder().index(i).outcome(BatchItemResult.Outcome.CREATED).build();
+            items.add(item);
+            pending.add(task);
+            pendingItems.add(item);
+            if (pending.size() == jdbcBatchSize) {
+                persistBatch(pending, pendingItems);
+            }
+        }
+        persistBatch(pending, pendingItems);
+
+        int created = (int) items.stream().filter(item -> item.getOutcome() == BatchItemResult.Outcome.CREATED).count();
+        return BatchResult.builder()
+                .requestedCount(tasks.size())
+                .succeededCount(created)
+                .failedCount(tasks.size() - created)
+                .items(items)
+                .build();
     }
 
     @Transactional
     public Task updateTask(Long id, Task updatedTask) {
+        return updateTask(id, updatedTask, null);
+    }
+
+    /**
+     * Replaces the task if its version still equals {@code expectedVersion}; a null
+     * expected version skips the check.
+     */
+    @Transactional
+    public Task updateTask(Long id, Task updatedTask, Long expectedVersion) {
         log.debug("Updating task with id: {}", id);
-        Task existingTask = getTaskById(id);
+        Task existingTask = findTask(id);
+        checkVersion(existingTask, expectedVersion);
+        Task previous = existingTask.toBuilder().build();
         
         existingTask.setTitle(updatedTask.getTitle());
         existingTask.setDescription(updatedTask.getDescription());
@@ -67,70 +207,152 @@ public class TaskService {
         }
         
         validateTask(existingTask);
-        return taskRepository.save(existingTask);
+        return saveChanges(previous, existingTask);
     }
 
     @Transactional
     public Task patchTask(Long id, Map<String, Object> updates) {
+        return patchTask(id, updates, null);
+    }
+
+    /**
+     * Applies the updates if the task's version still equals {@code expectedVersion}; a
+     * null expected version skips the check.
+     */
+    @Transactional
+    public Task patchTask(Long id, Map<String, Object> updates, Long expectedVersion) {
         log.debug("Patching task with id: {} with updates: {}", id, updates.keySet());
-        Task task = getTaskById(id);
+        TaskPatch patch = TaskPatch.parse(updates, false);
+        if (!patch.isValid()) {
+            throw TaskException.badRequest("Invalid patch: " + patch.errors());
+        }
+        Task task = findTask(id);
+        checkVersion(task, expectedVersion);
+        Task previous = task.toBuilder().build();
         
-        updates.forEach((key, value) -> {
-            switch (key) {
-                case "title" -> task.setTitle((String) value);
-                case "description" -> task.setDescription((String) value);
-                case "dueDate" -> task.setDueDate(value != null ? LocalDate.parse((String) value) : null);
-                case "status" -> {
-                    Task.TaskStatus newStatus = Task.TaskStatus.valueOf((String) value);
-                    task.setStatus(newStatus);
-                    if (newStatus == Task.TaskStatus.COMPLETED && task.getCompletionDate() == null) {
-                        task.setCompletionDate(LocalDateTime.now());
-                    } else if (newStatus != Task.TaskStatus.COMPLETED) {
-                        task.setCompletionDate(null);
-                    }
+        patch.applyTo(task);
+        validateTask(task);
+        
+        return saveChanges(previous, task);
+    }
+
+    /**
+     * Patches many tasks in one transaction. Every patch is type-checked before any task
+     * is loaded; the targets are then loaded with one query per chunk of
+     * {@code task.bulk.chunk-size} ids, patched and flushed as JDBC batches. Invalid,
+     * missing and version-conflicting items are reported and skipped.
+     */
+    @Transactional
+    public BatchResult patchTasks(List<TaskPatchRequest> requests) {
+        log.debug("Patching {} tasks in batch", requests.size());
+        if (requests.isEmpty()) {
+            throw TaskException.badRequest("At least one patch is required");
+        }
+        if (requests.size() > batchMaxSize) {
+            throw TaskException.badRequest("A batch may contain at most " + batchMaxSize + " patches");
+        }
+
+        List<BatchItemResult> items = new ArrayList<>(requests.size());
+        Map<Long, Integer> indexById = new LinkedHashMap<>();
+        Map<Long, TaskPatch> patchById = new HashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            TaskPatchRequest request = requests.get(i);
+            Long id = request == null ? null : request.getId();
+            TaskPatch patch = TaskPatch.parse(request == null ? null : request.getChanges(), true);
+            BatchItemResult item = BatchItemResult.builder().index(i).id(id).build();
+            items.add(item);
+            if (id == null) {
+                invalid(item, Map.of("id", "Task id is required"));
+            } else if (indexById.containsKey(id)) {
+                invalid(item, Map.of("id", "Task appears more than once in the batch"));
+            } else if (!patch.isValid()) {
+                invalid(item, patch.errors());
+            } else {
+                indexById.put(id, i);
+                patchById.put(id, patch);
+            }
+        }
+
+        for (List<Long> chunk : chunks(new ArrayList<>(indexById.keySet()))) {
+            Map<Long, Task> tasks = new HashMap<>();
+            taskRepository.findAllById(chunk).forEach(task -> tasks.put(task.getId(), task));
+            List<TaskChangedEvent> events = new ArrayList<>(chunk.size());
+            for (Long id : chunk) {
+                int index = indexById.get(id);
+                BatchItemResult item = items.get(index);
+                Task task = tasks.get(id);
+                Long expectedVersion = requests.get(index).getVersion();
+                if (task == null) {
+                    item.setOutcome(BatchItemResult.Outcome.NOT_FOUND);
+                    continue;
+                }
+                if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+                    item.setOutcome(BatchItemResult.Outcome.CONFLICT);
+                    item.setErrors(Map.of("version", "Expected version " + expectedVersion
+                            + " but the task is at version " + task.getVersion()));
+                    continue;
+                }
+
+                Task previous = task.toBuilder().build();
+                Task patched = task.toBuilder().build();
+                patchById.get(id).applyTo(patched);
+                Map<String, String> errors = validationErrors(patched);
+                if (!errors.isEmpty()) {
+                    invalid(item, errors);
+                    continue;
                 }
-                case "priority" -> task.setPriority(Task.Priority.valueOf((String) value));
-                case "category" -> task.setCategory((String) value);
-                case "assignedTo" -> task.setAssignedTo((String) value);
-                case "estimatedHours" -> task.setEstimatedHours((Integer) value);
-                case "createdBy" -> task.setCreatedBy((String) value);
+                patchById.get(id).applyTo(task);
+                item.setOutcome(BatchItemResult.Outcome.UPDATED);
+                events.add(TaskChangedEvent.updated(previous, task));
             }
-        });
-        
-        return taskRepository.save(task);
+            entityManager.flush();
+            entityManager.clear();
+            events.forEach(eventPublisher::publishEvent);
+        }
+
+        int updated = (int) items.stream().filter(item -> item.getOutcome() == BatchItemResult.Outcome.UPDATED).count();
+        return BatchResult.builder()
+                .requestedCount(requests.size())
+                .succeededCount(updated)
+                .failedCount(requests.size() - updated)
+                .items(items)
+                .build();
     }
 
     @Transactional
     public void deleteTask(Long id) {
         log.debug("Deleting task with id: {}", id);
-        Task task = getTaskById(id);
+        Task task = findTask(id);
         taskRepository.delete(task);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(task));
     }
 
     @Transactional
     public Task completeTask(Long id) {
         log.debug("Marking task as completed: {}", id);
-        Task task = getTaskById(id);
+        Task task = findTask(id);
         
         if (task.getStatus() == Task.TaskStatus.COMPLETED) {
             throw TaskException.badRequest("Task is already completed");
         }
         
+        Task previous = task.toBuilder().build();
         task.markAsCompleted();
-        return taskRepository.save(task);
+        return saveChanges(previous, task);
     }
 
     @Transactional
     public Task startTask(Long id) {
         log.debug("Starting task: {}", id);
-        Task task = getTaskById(id);
+        Task task = findTask(id);
         
         if (task.getStatus() == Task.TaskStatus.COMPLETED) {
             throw TaskException.badRequest("Cannot start a completed task");
         }
         
+        Task previous = task.toBuilder().build();
         task.markAsInProgress();
-        return taskRepository.save(task);
+        return saveChanges(previous, task);
     }
 
     public Page<Task> filterTasks(String title, String description, Task.TaskStatus status,
@@ -139,45 +361,206 @@ public class TaskService {
                                 LocalDate dueAfter, LocalDate dueBefore, String searchTerm,
                                 Pageable pageable) {
         
+        TaskFilter filter = TaskFilter.builder()
+                .title(title)
+                .description(description)
+                .status(status)
+                .priority(priority)
+                .category(category)
+                .assignedTo(assignedTo)
+                .createdBy(createdBy)
+                .createdAfter(createdAfter)
+                .createdBefore(createdBefore)
+                .dueAfter(dueAfter)
+                .dueBefore(dueBefore)
+                .searchTerm(searchTerm)
+                .build();
+        return filterTasks(filter, pageable);
+    }
+
+    public Page<Task> filterTasks(TaskFilter filter, Pageable pageable) {
         log.debug("Filtering tasks with criteria");
-        Specification<Task> spec = Specification.where(null);
+        return withArchived(filter, () -> taskRepository.findTasks(filterSpecification(filter), pageable));
+    }
+
+    /**
+     * Count and latest update of the filtered tasks, from which list ETags are derived.
+     */
+    public TaskRepositoryCustom.CollectionVersion getCollectionVersion(TaskFilter filter) {
+        return withArchived(filter, () -> taskRepository.findCollectionVersion(filterSpecification(filter)));
+    }
+
+    /**
+     * Filtered page of {@link TaskSummary} rows, selecting only the summary columns.
+     */
+    public Page<TaskSummary> filterTaskSummaries(TaskFilter filter, Pageable pageable) {
+        log.debug("Filtering task summaries with criteria");
+        return withArchived(filter, () -> taskRepository.findSummaries(filterSpecification(filter), pageable));
+    }
+
+    /**
+     * Filtered page containing only the requested fields of each task, given as a
+     * comma-separated list of {@link #SELECTABLE_FIELDS}. The id is always included.
+     */
+    public Page<Map<String, Object>> filterTaskFields(TaskFilter filter, String fields, Pageable pageable) {
+        log.debug("Filtering tasks with criteria, selecting fields: {}", fields);
+        Set<String> selected = parseFields(fields);
+        return withArchived(filter, () -> taskRepository.findFields(filterSpecification(filter), selected, pageable));
+    }
+
+    /**
+     * Keyset pagination over the filtered tasks. Each call seeks past the cursor position
+     * instead of skipping rows with OFFSET, and no COUNT query is issued.
+     */
+    public CursorPage<Task> scrollTasks(TaskFilter filter, String sortBy, Sort.Direction direction,
+                                        String cursor, int size) {
+        log.debug("Scrolling tasks sorted by {} {} after cursor: {}", sortBy, direction, cursor);
+        TaskCursor.validateSortField(sortBy);
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw TaskException.badRequest("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+
+        TaskCursor position = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor);
+        if (position != null && (!position.getSortBy().equals(sortBy) || position.getDirection() != direction)) {
+            throw TaskException.badRequest("Cursor was issued for a different sort order");
+        }
+        Specification<Task> ordered = filterSpecification(filter)
+                .and(TaskSpecification.keysetOrder(sortBy, direction));
+        Specification<Task> spec = position == null ? ordered : ordered.and(TaskSpecification.seekAfter(position));
 
-        if (title != null) spec = spec.and(TaskSpecification.hasTitle(title));
-        if (description != null) spec = spec.and(TaskSpecification.hasDescription(description));
-        if (status != null) spec = spec.and(TaskSpecification.hasStatus(status));
-        if (priority != null) spec = spec.and(TaskSpecification.hasPriority(priority));
-        if (category != null) spec = spec.and(TaskSpecification.hasCategory(category));
-        if (assignedTo != null) spec = spec.and(TaskSpecification.isAssignedTo(assignedTo));
-        if (createdBy != null) spec = spec.and(TaskSpecification.isCreatedBy(createdBy));
-        if (createdAfter != null) spec = spec.and(TaskSpecification.createdAfter(createdAfter));
-        if (createdBefore != null) spec = spec.and(TaskSpecification.createdBefore(createdBefore));
-        if (dueAfter != null) spec = spec.and(TaskSpecification.dueAfter(dueAfter));
-        if (dueBefore != null) spec = spec.and(TaskSpecification.dueBefore(dueBefore));
-        if (searchTerm != null) spec = spec.and(TaskSpecification.searchText(searchTerm));
+        // Fetch one extra row to learn whether another slice follows
+        List<Task> rows = withArchived(filter, () -> taskRepository.findBy(spec, query -> query.limit(size + 1).all()));
+        boolean hasNext = rows.size() > size;
+        List<Task> content = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPage.<Task>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? TaskCursor.after(content.get(size - 1), sortBy, direction).encode() : null)
+                .build();
+    }
+
+    /**
+     * Builds the filter specification, answering the search term from the search index
+     * whenever it is ready, however many tasks match. The LIKE fallback only serves
+     * requests made before the index is built, and searches that include archived tasks,
+     * which the index does not hold.
+     */
+    private Specification<Task> filterSpecification(TaskFilter filter) {
+        String searchTerm = filter.getSearchTerm();
+        if (searchTerm == null || !searchIndex.isReady() || filter.isIncludeArchived()) {
+            return TaskSpecification.fromFilter(filter);
+        }
+
+        List<TaskSearchIndex.SearchHit> hits = searchIndex.search(searchTerm);
+        TaskFilter withoutSearchTerm = filter.toBuilder().searchTerm(null).build();
+        List<Long> ids = hits.stream().map(TaskSearchIndex.SearchHit::taskId).toList();
+        return TaskSpecification.fromFilter(withoutSearchTerm).and(TaskSpecification.hasIdIn(ids));
+    }
 
-        return taskRepository.findAll(spec, pageable);
+    /**
+     * Writes every task matching the filter to the export writer, in id order. Rows are
+     * read through a database cursor and detached once written, so memory use does not
+     * grow with the size of the result.
+     */
+    @Transactional(readOnly = true)
+    public long exportTasks(TaskFilter filter, TaskExportWriter writer) throws IOException {
+        log.debug("Exporting tasks with filter: {}", filter);
+        long count = 0;
+        setArchivedVisible(filter.isIncludeArchived());
+        try (Stream<Task> tasks = taskRepository.streamAll(filterSpecification(filter), exportFetchSize)) {
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                Task task = iterator.next();
+                writer.write(task);
+                entityManager.detach(task);
+                count++;
+            }
+        } finally {
+            setArchivedVisible(false);
+        }
+        writer.finish();
+        return count;
     }
 
+    /**
+     * Concurrent calls share one read through {@link QueryCoalescer}. The read runs in a
+     * read-only transaction of its own, opened by the caller that performs it, so callers
+     * waiting for a shared read do not hold a connection and the read can go to a replica.
+     * The same applies to {@link #getTasksDueToday()} and {@link #getHighPriorityPendingTasks()}.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Task> getOverdueTasks() {
+        return queryCoalescer.execute("overdue", () -> readOnly(() -> List.copyOf(findOverdueTasks())));
+    }
+
+    private List<Task> findOverdueTasks() {
         log.debug("Fetching overdue tasks");
-        return taskRepository.findOverdueTasks(LocalDate.now());
+        LocalDate today = LocalDate.now();
+        if (!dueDateIndex.isReady()) {
+            return taskRepository.findOverdueTasks(today);
+        }
+        return findDueTasks(dueDateIndex.findDueBefore(today), LocalDate.MIN, today.minusDays(1));
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Task> getTasksDueToday() {
+        return queryCoalescer.execute("due-today", () -> readOnly(() -> List.copyOf(findTasksDueToday())));
+    }
+
+    private List<Task> findTasksDueToday() {
         log.debug("Fetching tasks due today");
-        return taskRepository.findTasksDueToday(LocalDate.now());
+        LocalDate today = LocalDate.now();
+        if (!dueDateIndex.isReady()) {
+            return taskRepository.findTasksDueToday(today);
+        }
+        return findDueTasks(dueDateIndex.findDueBetween(today, today), today, today);
     }
 
     public List<Task> getTasksDueWithin(int days) {
         log.debug("Fetching tasks due within {} days", days);
         LocalDate startDate = LocalDate.now();
         LocalDate endDate = startDate.plusDays(days);
-        return taskRepository.findTasksDueWithinDays(startDate, endDate);
+        if (!dueDateIndex.isReady()) {
+            return taskRepository.findTasksDueWithinDays(startDate, endDate);
+        }
+        return findDueTasks(dueDateIndex.findDueBetween(startDate, endDate), startDate, endDate);
     }
 
+    /**
+     * Loads the tasks found by the due date index, in index order, and drops any whose
+     * change has committed but not yet reached the index.
+     */
+    private List<Task> findDueTasks(List<Long> ids, LocalDate startDate, LocalDate endDate) {
+        List<Task> tasks = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += bulkChunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + bulkChunkSize, ids.size()));
+            Map<Long, Task> tasksById = taskRepository.findAllById(chunk).stream()
+                    .collect(Collectors.toMap(Task::getId, Function.identity()));
+            for (Long id : chunk) {
+                Task task = tasksById.get(id);
+                if (task != null && TaskDueDateIndex.isTracked(task)
+                        && !task.getDueDate().isBefore(startDate) && !task.getDueDate().isAfter(endDate)) {
+                    tasks.add(task);
+                }
+            }
+        }
+        return tasks;
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Task> getHighPriorityPendingTasks() {
-        log.debug("Fetching high priority pending tasks");
-        return taskRepository.findHighPriorityPendingTasks();
+        return queryCoalescer.execute("high-priority", () -> readOnly(() -> {
+            log.debug("Fetching high priority pending tasks");
+            return List.copyOf(taskRepository.findHighPriorityPendingTasks());
+        }));
+    }
+
+    private <T> T readOnly(Supplier<T> read) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(status -> read.get());
     }
 
     public Page<Task> getRecentlyUpdatedTasks(Pageable pageable) {
@@ -185,12 +568,48 @@ public class TaskService {
         return taskRepository.findRecentlyUpdatedTasks(pageable);
     }
 
-    public List<Task> searchTasks(String query) {
+    public Page<Task> searchTasks(String query, Pageable pageable) {
         log.debug("Searching tasks with query: {}", query);
         if (query == null || query.trim().isEmpty()) {
             throw TaskException.badRequest("Search query cannot be empty");
         }
-        return taskRepository.searchTasks(query.trim());
+        if (!searchIndex.isReady()) {
+            return taskRepository.searchTasks(query.trim(), pageable);
+        }
+
+        List<TaskSearchIndex.SearchHit> hits = searchIndex.search(query);
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<Long> pageIds = hits.subList(from, to).stream()
+                .map(TaskSearchIndex.SearchHit::taskId)
+                .toList();
+
+        // Hydrate only the requested page and restore the ranking order
+        Map<Long, Task> tasksById = taskRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<Task> content = pageIds.stream()
+                .map(tasksById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, hits.size());
+    }
+
+    public Map<String, Object> getTaskStatistics() {
+        log.debug("Fetching task statistics");
+        return statisticsAggregator.snapshot();
+    }
+
+    /**
+     * Open work of every assignee, read from the workload rollup.
+     */
+    public List<AssigneeWorkload> getTeamWorkload() {
+        log.debug("Fetching team workload");
+        return workloadRollup.getTeamWorkload();
+    }
+
+    public AssigneeWorkload getWorkload(String assignedTo) {
+        log.debug("Fetching workload of: {}", assignedTo);
+        return workloadRollup.getWorkload(assignedTo);
     }
 
     public List<Task> getTasksByStatus(Task.TaskStatus status) {
@@ -218,42 +637,216 @@ public class TaskService {
         return taskRepository.findByCreatedBy(createdBy);
     }
 
+    /**
+     * Sets the status of all given tasks with one UPDATE per chunk of ids. Moving to
+     * COMPLETED keeps an existing completion date; any other status clears it.
+     */
     @Transactional
-    public int bulkUpdateStatus(List<Long> taskIds, Task.TaskStatus newStatus) {
+    public BulkOperationResult bulkUpdateStatus(List<Long> taskIds, Task.TaskStatus newStatus) {
         log.debug("Bulk updating status for {} tasks to {}", taskIds.size(), newStatus);
-        int updatedCount = 0;
-        
-        for (Long taskId : taskIds) {
-            Optional<Task> taskOpt = taskRepository.findById(taskId);
-            if (taskOpt.isPresent()) {
-                Task task = taskOpt.get();
-                task.setStatus(newStatus);
-                if (newStatus == Task.TaskStatus.COMPLETED && task.getCompletionDate() == null) {
-                    task.setCompletionDate(LocalDateTime.now());
-                } else if (newStatus != Task.TaskStatus.COMPLETED) {
-                    task.setCompletionDate(null);
-                }
-                taskRepository.save(task);
-                updatedCount++;
+        List<Long> ids = distinctIds(taskIds);
+        List<Long> updatedIds = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (List<Long> chunk : chunks(ids)) {
+            List<Task> existing = taskRepository.findAllById(chunk);
+            if (existing.isEmpty()) {
+                continue;
             }
+            List<Long> existingIds = existing.stream().map(Task::getId).toList();
+            if (newStatus == Task.TaskStatus.COMPLETED) {
+                taskRepository.bulkUpdateStatusKeepingCompletionDate(existingIds, newStatus, now);
+            } else {
+                taskRepository.bulkUpdateStatusClearingCompletionDate(existingIds, newStatus, now);
+            }
+
+            // The UPDATE bypasses the persistence context, so describe the new state from the
+            // snapshots
+            for (Task previous : existing) {
+                Task current = previous.toBuilder()
+                        .status(newStatus)
+                        .completionDate(newStatus == Task.TaskStatus.COMPLETED
+                                ? Objects.requireNonNullElse(previous.getCompletionDate(), now) : null)
+                        .updatedAt(now)
+                        .build();
+                eventPublisher.publishEvent(TaskChangedEvent.updated(previous, current));
+            }
+            updatedIds.addAll(existingIds);
         }
-        
-        return updatedCount;
+
+        return bulkResult(ids, updatedIds);
     }
 
+    /**
+     * Deletes all given tasks with one DELETE per chunk of ids.
+     */
     @Transactional
-    public int bulkDeleteTasks(List<Long> taskIds) {
+    public BulkOperationResult bulkDeleteTasks(List<Long> taskIds) {
         log.debug("Bulk deleting {} tasks", taskIds.size());
-        int deletedCount = 0;
-        
-        for (Long taskId : taskIds) {
-            if (taskRepository.existsById(taskId)) {
-                taskRepository.deleteById(taskId);
-                deletedCount++;
+        List<Long> ids = distinctIds(taskIds);
+        List<Long> deletedIds = new ArrayList<>();
+
+        for (List<Long> chunk : chunks(ids)) {
+            List<Task> existing = taskRepository.findAllById(chunk);
+            if (existing.isEmpty()) {
+                continue;
             }
+            List<Long> existingIds = existing.stream().map(Task::getId).toList();
+            taskRepository.bulkDeleteByIds(existingIds);
+            existing.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.deleted(task)));
+            deletedIds.addAll(existingIds);
         }
-        
-        return deletedCount;
+
+        return bulkResult(ids, deletedIds);
+    }
+
+    /**
+     * Archives up to {@code batchSize} completed or cancelled tasks last updated before
+     * {@code cutoff}, oldest first, with one UPDATE, and returns how many were archived.
+     * Archived tasks leave every active-work query, index and statistic.
+     */
+    @Transactional
+    public int archiveTasks(LocalDateTime cutoff, int batchSize) {
+        log.debug("Archiving up to {} tasks last updated before {}", batchSize, cutoff);
+        List<Task> tasks = taskRepository.findArchivableTasks(cutoff, PageRequest.of(0, batchSize));
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        taskRepository.archiveByIds(tasks.stream().map(Task::getId).toList());
+        tasks.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.archived(task)));
+        return tasks.size();
+    }
+
+    private List<Long> distinctIds(List<Long> taskIds) {
+        if (taskIds == null || taskIds.isEmpty()) {
+            throw TaskException.badRequest("Task ids are required");
+        }
+        return taskIds.stream().filter(Objects::nonNull).distinct().toList();
+    }
+
+    private List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += bulkChunkSize) {
+            chunks.add(ids.subList(from, Math.min(from + bulkChunkSize, ids.size())));
+        }
+        return chunks;
+    }
+
+    private static BulkOperationResult bulkResult(List<Long> requestedIds, List<Long> affectedIds) {
+        Set<Long> affected = new HashSet<>(affectedIds);
+        List<Long> missingIds = requestedIds.stream().filter(id -> !affected.contains(id)).toList();
+        return BulkOperationResult.builder()
+                .requestedCount(requestedIds.size())
+                .affectedCount(affectedIds.size())
+                .affectedIds(affectedIds)
+                .missingIds(missingIds)
+                .build();
+    }
+
+    private Set<String> parseFields(String fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!SELECTABLE_FIELDS.contains(name)) {
+                throw TaskException.badRequest("Unknown field: " + name + ". Selectable fields are " + SELECTABLE_FIELDS);
+            }
+            selected.add(name);
+        }
+        return selected;
+    }
+
+    private void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw TaskException.preconditionFailed("Task " + task.getId() + " has been modified: expected version "
+                    + expectedVersion + " but is at version " + task.getVersion());
+        }
+    }
+
+    /**
+     * Loads a task for modification. Archived tasks are read-only.
+     */
+    private Task findTask(Long id) {
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> TaskException.notFound("Task not found with id: " + id));
+        if (task.isArchived()) {
+            throw TaskException.conflict("Task " + id + " is archived and can no longer be modified");
+        }
+        return task;
+    }
+
+    /**
+     * Runs a filter query with the {@link Task#ACTIVE_FILTER} disabled when the filter
+     * includes archived tasks. Must be called inside a transaction, so that the query
+     * runs on the session whose filter was changed.
+     */
+    private <T> T withArchived(TaskFilter filter, Supplier<T> query) {
+        if (!filter.isIncludeArchived()) {
+            return query.get();
+        }
+        setArchivedVisible(true);
+        try {
+            return query.get();
+        } finally {
+            setArchivedVisible(false);
+        }
+    }
+
+    private void setArchivedVisible(boolean visible) {
+        Session session = entityManager.unwrap(Session.class);
+        if (visible) {
+            session.disableFilter(Task.ACTIVE_FILTER);
+        } else {
+            session.enableFilter(Task.ACTIVE_FILTER);
+        }
+    }
+
+    private void persistBatch(List<Task> tasks, List<BatchItemResult> items) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        taskRepository.saveAll(tasks);
+        entityManager.flush();
+        entityManager.clear();
+        for (int i = 0; i < tasks.size(); i++) {
+            items.get(i).setId(tasks.get(i).getId());
+            eventPublisher.publishEvent(TaskChangedEvent.created(tasks.get(i)));
+        }
+        tasks.clear();
+        items.clear();
+    }
+
+    private static void invalid(BatchItemResult item, Map<String, String> errors) {
+        item.setOutcome(BatchItemResult.Outcome.INVALID);
+        item.setErrors(errors);
+    }
+
+    private Map<String, String> validationErrors(Task task) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        if (task == null) {
+            errors.put("task", "Task must not be null");
+            return errors;
+        }
+        for (ConstraintViolation<Task> violation : validator.validate(task)) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        if (errors.isEmpty()) {
+            try {
+                validateTask(task);
+            } catch (TaskException ex) {
+                errors.put("task", ex.getMessage());
+            }
+        }
+        return errors;
+    }
+
+    private Task saveChanges(Task previous, Task task) {
+        Task savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(previous, savedTask));
+        return savedTask;
     }
 
     private void validateTask(Task task) {
@@ -0,0 +1,100 @@
+package com.codewithsid.taskmanager.specification;
+
+import com.codewithsid.taskmanager.dictionary.TaskDictionaries;
+import com.codewithsid.taskmanager.dictionary.TermDictionary;
+import com.codewithsid.taskmanager.dto.TaskFilter;
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.search.TaskSearchIndex;
+import org.springframework.data.relational.core.query.Criteria;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * R2DBC counterparts of {@link TaskSpecification} for the reactive read API. Each
+ * criterion matches exactly the rows its specification matches, so both APIs return the
+ * same tasks for the same filter.
+ */
+public class TaskCriteria {
+
+    public static Criteria fromFilter(TaskFilter filter, TaskDictionaries dictionaries) {
+        Criteria criteria = filter.isIncludeArchived() ? Criteria.empty() : isActive();
+
+        if (filter.getTitle() != null) criteria = criteria.and(contains("title", filter.getTitle()));
+        if (filter.getDescription() != null) criteria = criteria.and(contains("description", filter.getDescription()));
+        if (filter.getStatus() != null) criteria = criteria.and(Criteria.where("status").is(filter.getStatus()));
+        if (filter.getPriority() != null) criteria = criteria.and(Criteria.where("priority").is(filter.getPriority()));
+        if (filter.getCategory() != null) criteria = criteria.and(
+                hasTerm("category_id", dictionaries.categories(), filter.getCategory()));
+        if (filter.getAssignedTo() != null) criteria = criteria.and(
+                hasTerm("assigned_to_id", dictionaries.people(), filter.getAssignedTo()));
+        if (filter.getCreatedBy() != null) criteria = criteria.and(
+                hasTerm("created_by_id", dictionaries.people(), filter.getCreatedBy()));
+        if (filter.getCreatedAfter() != null) criteria = criteria.and(
+                Criteria.where("createdAt").greaterThanOrEquals(filter.getCreatedAfter()));
+        if (filter.getCreatedBefore() != null) criteria = criteria.and(
+                Criteria.where("createdAt").lessThanOrEquals(filter.getCreatedBefore()));
+        if (filter.getDueAfter() != null) criteria = criteria.and(
+                Criteria.where("dueDate").greaterThanOrEquals(filter.getDueAfter()));
+        if (filter.getDueBefore() != null) criteria = criteria.and(
+                Criteria.where("dueDate").lessThanOrEquals(filter.getDueBefore()));
+        if (filter.getSearchTerm() != null) criteria = criteria.and(searchText(filter.getSearchTerm()));
+
+        return criteria;
+    }
+
+    public static Criteria isOverdue(LocalDate today) {
+        return Criteria.where("dueDate").lessThan(today).and(isOpen()).and(isActive());
+    }
+
+    public static Criteria isDueBetween(LocalDate startDate, LocalDate endDate) {
+        return Criteria.where("dueDate").between(startDate, endDate).and(isOpen()).and(isActive());
+    }
+
+    // R2DBC binds one parameter per id, so large id sets are split into several IN lists
+    public static Criteria hasIdIn(List<Long> ids) {
+        Criteria criteria = Criteria.where("id").in(ids.subList(0, Math.min(ids.size(), TaskSpecification.MAX_IN_LIST_SIZE)));
+        for (int from = TaskSpecification.MAX_IN_LIST_SIZE; from < ids.size(); from += TaskSpecification.MAX_IN_LIST_SIZE) {
+            criteria = criteria.or(Criteria.where("id").in(
+                    ids.subList(from, Math.min(ids.size(), from + TaskSpecification.MAX_IN_LIST_SIZE))));
+        }
+        return criteria;
+    }
+
+    // The JPA side gets this from the Task.ACTIVE_FILTER Hibernate filter
+    private static Criteria isActive() {
+        return Criteria.where("archived").isFalse();
+    }
+
+    private static Criteria isOpen() {
+        return Criteria.where("status").notIn(Task.TaskStatus.COMPLETED, Task.TaskStatus.CANCELLED);
+    }
+
+    // Compares dictionary keys like the JPA converters do; an unknown name matches nothing
+    private static Criteria hasTerm(String column, TermDictionary dictionary, String name) {
+        Integer id = dictionary.findId(name);
+        return Criteria.where(column).is(id != null ? id : -1);
+    }
+
+    // Word-prefix match of every token, like TaskSpecification.searchText; ids are never null
+    private static Criteria searchText(String searchTerm) {
+        List<String> tokens = TaskSearchIndex.tokenize(searchTerm);
+        if (tokens.isEmpty()) {
+            return Criteria.where("id").isNull();
+        }
+        Criteria criteria = Criteria.empty();
+        for (String token : tokens) {
+            criteria = criteria.and(startsWord("title", token).or(startsWord("description", token)));
+        }
+        return criteria;
+    }
+
+    private static Criteria startsWord(String property, String token) {
+        return Criteria.where(property).like(token + "%").ignoreCase(true)
+                .or(property).like("% " + token + "%").ignoreCase(true);
+    }
+
+    private static Criteria contains(String property, String value) {
+        return Criteria.where(property).like("%" + value + "%").ignoreCase(true);
+    }
+}
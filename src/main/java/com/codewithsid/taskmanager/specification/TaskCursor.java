@@ -0,0 +1,88 @@
+package com.codewithsid.taskmanager.specification;
+
+import com.codewithsid.taskmanager.exception.TaskException;
+import com.codewithsid.taskmanager.model.Task;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Position of the last row returned by a keyset-paginated query: the sort key of that
+ * row plus its id as a tie-breaker. Encoded as an opaque URL-safe token for clients.
+ */
+@Getter
+public class TaskCursor {
+
+    public static final List<String> SORT_FIELDS = List.of("createdAt", "updatedAt", "dueDate", "priority");
+
+    private static final String SEPARATOR = "|";
+
+    private final String sortBy;
+    private final Sort.Direction direction;
+    private final Comparable<?> value;
+    private final Long id;
+
+    public TaskCursor(String sortBy, Sort.Direction direction, Comparable<?> value, Long id) {
+        this.sortBy = sortBy;
+        this.direction = direction;
+        this.value = value;
+        this.id = id;
+    }
+
+    public static TaskCursor after(Task task, String sortBy, Sort.Direction direction) {
+        Comparable<?> value = switch (sortBy) {
+            case "createdAt" -> task.getCreatedAt();
+            case "updatedAt" -> task.getUpdatedAt();
+            case "dueDate" -> task.getDueDate();
+            case "priority" -> task.getPriority();
+            default -> throw unsupportedSortField(sortBy);
+        };
+        return new TaskCursor(sortBy, direction, value, task.getId());
+    }
+
+    public String encode() {
+        String raw = sortBy + SEPARATOR + direction.name() + SEPARATOR
+                + (value == null ? "" : value.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4) {
+                throw TaskException.badRequest("Invalid cursor");
+            }
+            String sortBy = parts[0];
+            Sort.Direction direction = Sort.Direction.valueOf(parts[1]);
+            Comparable<?> value = parts[2].isEmpty() ? null : parseValue(sortBy, parts[2]);
+            return new TaskCursor(sortBy, direction, value, Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException | java.time.format.DateTimeParseException ex) {
+            throw TaskException.badRequest("Invalid cursor");
+        }
+    }
+
+    public static void validateSortField(String sortBy) {
+        if (!SORT_FIELDS.contains(sortBy)) {
+            throw unsupportedSortField(sortBy);
+        }
+    }
+
+    private static Comparable<?> parseValue(String sortBy, String value) {
+        return switch (sortBy) {
+            case "createdAt", "updatedAt" -> LocalDateTime.parse(value);
+            case "dueDate" -> LocalDate.parse(value);
+            case "priority" -> Task.Priority.valueOf(value);
+            default -> throw unsupportedSortField(sortBy);
+        };
+    }
+
+    private static TaskException unsupportedSortField(String sortBy) {
+        return TaskException.badRequest("Cursor pagination supports sorting by " + SORT_FIELDS + ", not: " + sortBy);
+    }
+}
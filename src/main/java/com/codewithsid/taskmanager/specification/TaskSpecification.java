@@ -1,13 +1,22 @@
 package com.codewithsid.taskmanager.specification;
 
+import com.codewithsid.taskmanager.dto.TaskFilter;
 import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.search.TaskSearchIndex;
 import jakarta.persistence.criteria.*;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 public class TaskSpecification {
 
+    public static final int MAX_IN_LIST_SIZE = 1000;
+
     public static Specification<Task> hasTitle(String title) {
         return (Root<Task> root, CriteriaQuery<?> query, CriteriaBuilder cb) ->
                 title == null ? cb.conjunction() :
@@ -32,10 +41,11 @@ public class TaskSpecification {
                 cb.equal(root.get("priority"), priority);
     }
 
+    // Category and people names compare by dictionary key, so case-insensitively and by index
     public static Specification<Task> hasCategory(String category) {
         return (Root<Task> root, CriteriaQuery<?> query, CriteriaBuilder cb) ->
                 category == null ? cb.conjunction() :
-                cb.equal(cb.lower(root.get("category")), category.toLowerCase());
+                cb.equal(root.get("category"), category);
     }
 
     public static Specification<Task> isAssignedTo(String assignedTo) {
@@ -103,13 +113,117 @@ public class TaskSpecification {
                 cb.lessThan(root.get("estimatedHours"), hours);
     }
 
+    /**
+     * Matches like the search index: every token of the term must start a word of the
+     * title or description. A word is taken to start the text or follow a space, which is
+     * as close as LIKE gets to the index tokenizer. A term without tokens matches nothing.
+     */
     public static Specification<Task> searchText(String searchTerm) {
-        return (Root<Task> root, CriteriaQuery<?> query, CriteriaBuilder cb) ->
-                searchTerm == null ? cb.conjunction() :
-                cb.or(
-                    cb.like(cb.lower(root.get("title")), "%" + searchTerm.toLowerCase() + "%"),
-                    cb.like(cb.lower(root.get("description")), "%" + searchTerm.toLowerCase() + "%")
+        return (Root<Task> root, CriteriaQuery<?> query, CriteriaBuilder cb) -> {
+            if (searchTerm == null) {
+                return cb.conjunction();
+            }
+            List<String> tokens = TaskSearchIndex.tokenize(searchTerm);
+            if (tokens.isEmpty()) {
+                return cb.disjunction();
+            }
+            List<Predicate> predicates = new ArrayList<>();
+            for (String token : tokens) {
+                predicates.add(cb.or(
+                        startsWord(cb, root.get("title"), token),
+                        startsWord(cb, root.get("description"), token)));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    // Tokens hold only letters and digits, so they never contain LIKE wildcards
+    private static Predicate startsWord(CriteriaBuilder cb, Expression<String> field, String token) {
+        Expression<String> lower = cb.lower(field);
+        return cb.or(cb.like(lower, token + "%"), cb.like(lower, "% " + token + "%"));
+    }
+
+    public static Specification<Task> fromFilter(TaskFilter filter) {
+        List<Specification<Task>> specs = new ArrayList<>();
+
+        if (filter.getTitle() != null) specs.add(hasTitle(filter.getTitle()));
+        if (filter.getDescription() != null) specs.add(hasDescription(filter.getDescription()));
+        if (filter.getStatus() != null) specs.add(hasStatus(filter.getStatus()));
+        if (filter.getPriority() != null) specs.add(hasPriority(filter.getPriority()));
+        if (filter.getCategory() != null) specs.add(hasCategory(filter.getCategory()));
+        if (filter.getAssignedTo() != null) specs.add(isAssignedTo(filter.getAssignedTo()));
+        if (filter.getCreatedBy() != null) specs.add(isCreatedBy(filter.getCreatedBy()));
+        if (filter.getCreatedAfter() != null) specs.add(createdAfter(filter.getCreatedAfter()));
+        if (filter.getCreatedBefore() != null) specs.add(createdBefore(filter.getCreatedBefore()));
+        if (filter.getDueAfter() != null) specs.add(dueAfter(filter.getDueAfter()));
+        if (filter.getDueBefore() != null) specs.add(dueBefore(filter.getDueBefore()));
+        if (filter.getSearchTerm() != null) specs.add(searchText(filter.getSearchTerm()));
+
+        return Specification.allOf(specs);
+    }
+
+    /**
+     * Orders by the given field and then by id, in the same direction. Nulls sort last
+     * when ascending and first when descending on every database, so the order matches
+     * the predicate built by {@link #seekAfter(TaskCursor)}.
+     */
+    public static Specification<Task> keysetOrder(String sortBy, Sort.Direction direction) {
+        return (Root<Task> root, CriteriaQuery<?> query, CriteriaBuilder cb) -> {
+            HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+            boolean ascending = direction.isAscending();
+            query.orderBy(
+                    ascending ? hcb.asc(root.get(sortBy), false) : hcb.desc(root.get(sortBy), true),
+                    ascending ? cb.asc(root.get("id")) : cb.desc(root.get("id"))
+            );
+            return cb.conjunction();
+        };
+    }
+
+    /**
+     * Restricts the result to rows that come strictly after the cursor position in the
+     * order produced by {@link #keysetOrder(String, Sort.Direction)}.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<Task> seekAfter(TaskCursor cursor) {
+        return (Root<Task> root, CriteriaQuery<?> query, CriteriaBuilder cb) -> {
+            Path key = root.get(cursor.getSortBy());
+            Path<Long> id = root.get("id");
+            Comparable value = cursor.getValue();
+
+            if (cursor.getDirection().isAscending()) {
+                if (value == null) {
+                    return cb.and(cb.isNull(key), cb.greaterThan(id, cursor.getId()));
+                }
+                return cb.or(
+                        cb.greaterThan(key, value),
+                        cb.and(cb.equal(key, value), cb.greaterThan(id, cursor.getId())),
+                        cb.isNull(key)
+                );
+            }
+            if (value == null) {
+                return cb.or(
+                        cb.and(cb.isNull(key), cb.lessThan(id, cursor.getId())),
+                        cb.isNotNull(key)
                 );
+            }
+            return cb.or(
+                    cb.lessThan(key, value),
+                    cb.and(cb.equal(key, value), cb.lessThan(id, cursor.getId()))
+            );
+        };
+    }
+
+    // Id sets larger than MAX_IN_LIST_SIZE are bound as one array parameter
+    public static Specification<Task> hasIdIn(Collection<Long> ids) {
+        return (Root<Task> root, CriteriaQuery<?> query, CriteriaBuilder cb) -> {
+            if (ids.isEmpty()) {
+                return cb.disjunction();
+            }
+            if (ids.size() <= MAX_IN_LIST_SIZE) {
+                return root.get("id").in(ids);
+            }
+            return ((HibernateCriteriaBuilder) cb).arrayContains(ids.toArray(Long[]::new), root.get("id"));
+        };
     }
 
     public static Specification<Task> hasNoDueDate() {
@@ -0,0 +1,228 @@
+package com.codewithsid.taskmanager.statistics;
+
+import com.codewithsid.taskmanager.event.TaskChangedEvent;
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.repository.TaskRepository;
+import com.codewithsid.taskmanager.routing.PrimaryReads;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps the counters behind {@code GET /statistics} in memory.
+ *
+ * <p>Counters are loaded from the database when the application is ready, adjusted from
+ * {@link TaskChangedEvent}s after each commit, and periodically replaced by a fresh load to
+ * correct any drift (for example writes made outside {@code TaskService}). Open tasks are
+ * counted per due date, so overdue and due-today counts follow the calendar without a
+ * rollover job.
+ *
+ * <p>A reload is only swapped in when no task change started or committed while its
+ * queries ran, tracked with a generation counter like {@code QueryCoalescer}. Otherwise
+ * the loaded counts may or may not include that change, so it is retried and, failing
+ * that, left to the next reconcile while the incremental counters stay in place.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskStatisticsAggregator {
+
+    private static final int MAX_RECONCILE_ATTEMPTS = 3;
+
+    private final TaskRepository taskRepository;
+
+    private final Map<String, Long> statusCounts = new HashMap<>();
+    private final Map<String, Long> priorityCounts = new HashMap<>();
+    private final Map<String, Long> categoryCounts = new HashMap<>();
+    private final Map<String, Long> assigneeCounts = new HashMap<>();
+    private final TreeMap<LocalDate, Long> openTasksByDueDate = new TreeMap<>();
+    private long total;
+    private boolean loaded;
+    // Bumped when a change is made and when it commits; guarded by this
+    private long changeGeneration;
+    private int transactionsInFlight;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${task.statistics.reconcile-interval:PT5M}",
+            initialDelayString = "${task.statistics.reconcile-interval:PT5M}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        for (int attempt = 1; attempt <= MAX_RECONCILE_ATTEMPTS; attempt++) {
+            if (tryReconcile(attempt == MAX_RECONCILE_ATTEMPTS)) {
+                log.debug("Task statistics reconciled in {} ms", System.currentTimeMillis() - start);
+                return;
+            }
+        }
+        log.debug("Task statistics reconcile skipped, tasks kept changing while it ran");
+    }
+
+    private boolean tryReconcile(boolean lastAttempt) {
+        long generation;
+        boolean quiet;
+        synchronized (this) {
+            generation = changeGeneration;
+            quiet = transactionsInFlight == 0;
+        }
+
+        // All counts come from the primary: a replica could lag behind changes already applied
+        Snapshot snapshot = PrimaryReads.call(this::readSnapshot);
+
+        synchronized (this) {
+            // Before the first load there is nothing better to keep
+            if ((!quiet || generation != changeGeneration) && (loaded || !lastAttempt)) {
+                return false;
+            }
+            replace(statusCounts, snapshot.statuses());
+            replace(priorityCounts, snapshot.priorities());
+            replace(categoryCounts, snapshot.categories());
+            replace(assigneeCounts, snapshot.assignees());
+            replace(openTasksByDueDate, snapshot.dueDates());
+            total = snapshot.total();
+            loaded = true;
+            return true;
+        }
+    }
+
+    private Snapshot readSnapshot() {
+        TreeMap<LocalDate, Long> dueDates = new TreeMap<>();
+        for (Object[] row : taskRepository.getOpenTaskCountByDueDate()) {
+            dueDates.put((LocalDate) row[0], (Long) row[1]);
+        }
+        return new Snapshot(
+                toCounts(taskRepository.getTaskCountByStatus()),
+                toCounts(taskRepository.getTaskCountByPriority()),
+                toCounts(taskRepository.getTaskCountByCategory()),
+                toCounts(taskRepository.getTaskCountByAssignee()),
+                dueDates,
+                taskRepository.count());
+    }
+
+    /**
+     * Marks the transaction making the change as in flight until it completes, so a
+     * reconcile overlapping it is not swapped in.
+     */
+    @EventListener
+    public void onTaskChanging(TaskChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        synchronized (this) {
+            transactionsInFlight++;
+            changeGeneration++;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // Runs after the afterCommit listeners, once onTaskChanged has applied the change
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TaskStatisticsAggregator.this);
+                synchronized (TaskStatisticsAggregator.this) {
+                    transactionsInFlight--;
+                    changeGeneration++;
+                }
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        changeGeneration++;
+        if (event.getPrevious() != null) {
+            apply(event.getPrevious(), -1);
+        }
+        if (event.getCurrent() != null) {
+            apply(event.getCurrent(), 1);
+        }
+    }
+
+    /**
+     * Returns the statistics in the response shape of {@code GET /statistics}.
+     */
+    public Map<String, Object> snapshot() {
+        if (!isLoaded()) {
+            reconcile();
+        }
+
+        LocalDate today = LocalDate.now();
+        Map<String, Object> statistics = new HashMap<>();
+        synchronized (this) {
+            statistics.put("statusCounts", new HashMap<>(statusCounts));
+            statistics.put("priorityCounts", new HashMap<>(priorityCounts));
+            statistics.put("categoryCounts", new HashMap<>(categoryCounts));
+            statistics.put("assigneeCounts", new HashMap<>(assigneeCounts));
+
+            Map<String, Long> overallStats = new HashMap<>();
+            overallStats.put("total", total);
+            overallStats.put("overdue", openTasksByDueDate.headMap(today).values().stream()
+                    .mapToLong(Long::longValue).sum());
+            overallStats.put("dueToday", openTasksByDueDate.getOrDefault(today, 0L));
+            statistics.put("overall", overallStats);
+        }
+        return statistics;
+    }
+
+    private synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    private void apply(Task task, long delta) {
+        total += delta;
+        adjust(statusCounts, task.getStatus() == null ? null : task.getStatus().name(), delta);
+        adjust(priorityCounts, task.getPriority() == null ? null : task.getPriority().name(), delta);
+        adjust(categoryCounts, task.getCategory(), delta);
+        adjust(assigneeCounts, task.getAssignedTo(), delta);
+        if (task.getDueDate() != null && isOpen(task)) {
+            adjust(openTasksByDueDate, task.getDueDate(), delta);
+        }
+    }
+
+    private static boolean isOpen(Task task) {
+        return task.getStatus() != Task.TaskStatus.COMPLETED && task.getStatus() != Task.TaskStatus.CANCELLED;
+    }
+
+    private static <K> void adjust(Map<K, Long> counts, K key, long delta) {
+        if (key == null) {
+            return;
+        }
+        // Drop keys that reach zero so the maps match what GROUP BY would return
+        counts.compute(key, (k, count) -> {
+            long updated = (count == null ? 0 : count) + delta;
+            return updated <= 0 ? null : updated;
+        });
+    }
+
+    private static Map<String, Long> toCounts(List<Object[]> rows) {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            String key = row[0] instanceof Enum<?> value ? value.name() : (String) row[0];
+            counts.put(key, (Long) row[1]);
+        }
+        return counts;
+    }
+
+    private static <K> void replace(Map<K, Long> target, Map<K, Long> source) {
+        target.clear();
+        target.putAll(source);
+    }
+
+    private record Snapshot(Map<String, Long> statuses, Map<String, Long> priorities, Map<String, Long> categories,
+                            Map<String, Long> assignees, TreeMap<LocalDate, Long> dueDates, long total) {
+    }
+}
@@ -0,0 +1,312 @@
+package com.codewithsid.taskmanager.workload;
+
+import com.codewithsid.taskmanager.dictionary.TaskDictionaries;
+import com.codewithsid.taskmanager.dictionary.TermDictionary;
+import com.codewithsid.taskmanager.dto.AssigneeWorkload;
+import com.codewithsid.taskmanager.event.TaskChangedEvent;
+import com.codewithsid.taskmanager.model.Task;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Maintains {@code task_workload}, the open work of every assignee, from the
+ * {@link TaskChangedEvent}s of {@code TaskService}.
+ *
+ * <p>Events are handled while the change is still in its transaction. Their deltas are
+ * summed per rollup row and written just before the commit, with one batched UPDATE.
+ * The rollup therefore commits or rolls back together with the tasks, and a bulk
+ * operation touches each rollup row only once. Rows are updated in key order, so
+ * concurrent transactions cannot deadlock on them.
+ *
+ * <p>Missing rows are inserted on a connection of their own that commits immediately,
+ * like new dictionary entries, taken from the separate {@code autocommitDataSource}
+ * pool. Concurrent transactions then only contend on the UPDATE. A nightly rebuild
+ * ({@code task.workload.rebuild-cron}) recomputes the table from the tasks. This picks
+ * up writes made outside {@code TaskService} and removes empty rows.
+ *
+ * <p>A rebuild never overlaps the commit of a delta. Transactions hold a read lock from
+ * writing their deltas until they complete; the rebuild takes the write lock. Its snapshot
+ * of the tasks then includes every delta already written and none written later. Instances
+ * sharing a database also need {@code task.workload.rebuild-lock}, a statement that locks
+ * {@code task_workload} against writes for the rest of the rebuild transaction.
+ */
+@Component
+@Slf4j
+public class TaskWorkloadRollup {
+
+    // Stored instead of NULL for tasks without a due date; never before today
+    static final LocalDate NO_DUE_DATE = LocalDate.of(9999, 12, 31);
+
+    private static final Set<Task.TaskStatus> OPEN_STATUSES =
+            EnumSet.of(Task.TaskStatus.TODO, Task.TaskStatus.IN_PROGRESS, Task.TaskStatus.ON_HOLD);
+
+    private static final String SELECT_WORKLOAD = "SELECT assigned_to_id, status, priority, SUM(task_count), "
+            + "SUM(estimated_hours), SUM(CASE WHEN due_date < ? THEN task_count ELSE 0 END) FROM task_workload ";
+
+    private static final String UPDATE_ROW = "UPDATE task_workload SET task_count = task_count + ?, "
+            + "estimated_hours = estimated_hours + ? "
+            + "WHERE assigned_to_id = ? AND status = ? AND priority = ? AND due_date = ?";
+
+    private static final String GROUP_WORKLOAD = " GROUP BY assigned_to_id, status, priority HAVING SUM(task_count) > 0";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final TaskDictionaries dictionaries;
+    private final String rebuildLock;
+    private final Set<Key> existingRows = ConcurrentHashMap.newKeySet();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public TaskWorkloadRollup(JdbcTemplate jdbcTemplate, @Qualifier("autocommitDataSource") DataSource dataSource,
+                              TaskDictionaries dictionaries, @Value("${task.workload.rebuild-lock:}") String rebuildLock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.dictionaries = dictionaries;
+        this.rebuildLock = rebuildLock;
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        boolean inTransaction = TransactionSynchronizationManager.isSynchronizationActive();
+        Map<Key, Delta> deltas = inTransaction ? pendingDeltas() : new HashMap<>();
+        add(deltas, event.getPrevious(), -1);
+        add(deltas, event.getCurrent(), 1);
+        if (!inTransaction) {
+            lock.readLock().lock();
+            try {
+                apply(deltas);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Open work of every assignee that has any, ordered by assignee.
+     */
+    public List<AssigneeWorkload> getTeamWorkload() {
+        Map<Integer, AssigneeWorkload> workloads = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_WORKLOAD + GROUP_WORKLOAD, rs -> {
+            int assigneeId = rs.getInt(1);
+            AssigneeWorkload workload = workloads.computeIfAbsent(assigneeId,
+                    id -> emptyWorkload(dictionaries.people().nameOf(id)));
+            accumulate(workload, rs.getString(2), rs.getString(3), rs.getLong(4), rs.getLong(5), rs.getLong(6));
+        }, Date.valueOf(LocalDate.now()));
+
+        List<AssigneeWorkload> team = new ArrayList<>(workloads.values());
+        team.sort(Comparator.comparing(AssigneeWorkload::getAssignedTo, String.CASE_INSENSITIVE_ORDER));
+        return team;
+    }
+
+    /**
+     * Open work of one assignee, all zero if they have none.
+     */
+    public AssigneeWorkload getWorkload(String assignedTo) {
+        TermDictionary people = dictionaries.people();
+        Integer assigneeId = people.findId(assignedTo);
+        if (assigneeId == null) {
+            return emptyWorkload(assignedTo);
+        }
+        AssigneeWorkload workload = emptyWorkload(people.nameOf(assigneeId));
+        jdbcTemplate.query(SELECT_WORKLOAD + "WHERE assigned_to_id = ?" + GROUP_WORKLOAD, rs -> {
+            accumulate(workload, rs.getString(2), rs.getString(3), rs.getLong(4), rs.getLong(5), rs.getLong(6));
+        }, Date.valueOf(LocalDate.now()), assigneeId);
+        return workload;
+    }
+
+    @Scheduled(cron = "${task.workload.rebuild-cron:0 15 0 * * *}")
+    @Transactional
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.writeLock().unlock();
+            }
+        });
+        if (!rebuildLock.isBlank()) {
+            jdbcTemplate.execute(rebuildLock);
+        }
+        jdbcTemplate.update("DELETE FROM task_workload");
+        int rows = jdbcTemplate.update("INSERT INTO task_workload "
+                + "(assigned_to_id, status, priority, due_date, task_count, estimated_hours) "
+                + "SELECT assigned_to_id, status, priority, COALESCE(due_date, ?), COUNT(*), COALESCE(SUM(estimated_hours), 0) "
+                + "FROM tasks WHERE assigned_to_id IS NOT NULL AND archived = FALSE AND status IN ('TODO', 'IN_PROGRESS', 'ON_HOLD') "
+                + "GROUP BY assigned_to_id, status, priority, COALESCE(due_date, ?)",
+                Date.valueOf(NO_DUE_DATE), Date.valueOf(NO_DUE_DATE));
+        existingRows.clear();
+        log.info("Workload rollup rebuilt with {} rows in {} ms", rows, System.currentTimeMillis() - start);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Key, Delta> pendingDeltas() {
+        Map<Key, Delta> deltas = (Map<Key, Delta>) TransactionSynchronizationManager.getResource(this);
+        if (deltas == null) {
+            Map<Key, Delta> created = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private boolean locked;
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    lock.readLock().lock();
+                    locked = true;
+                    apply(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (locked) {
+                        lock.readLock().unlock();
+                    }
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TaskWorkloadRollup.this);
+                }
+            });
+            deltas = created;
+        }
+        return deltas;
+    }
+
+    private void add(Map<Key, Delta> deltas, Task task, int sign) {
+        if (task == null || task.getAssignedTo() == null || task.isArchived()
+                || !OPEN_STATUSES.contains(task.getStatus())) {
+            return;
+        }
+        Key key = new Key(assigneeId(task.getAssignedTo()), task.getStatus().name(), task.getPriority().name(),
+                task.getDueDate() != null ? task.getDueDate() : NO_DUE_DATE);
+        int hours = task.getEstimatedHours() != null ? task.getEstimatedHours() : 0;
+        deltas.computeIfAbsent(key, k -> new Delta()).add(sign, sign * hours);
+    }
+
+    private int assigneeId(String assignedTo) {
+        TermDictionary people = dictionaries.people();
+        Integer id = people.findId(assignedTo);
+        if (id == null) {
+            // The task's own name is registered when it is flushed, which may not have
+            // happened yet
+            id = people.findId(people.register(assignedTo));
+        }
+        return id;
+    }
+
+    private void apply(Map<Key, Delta> deltas) {
+        List<Map.Entry<Key, Delta>> changes = new TreeMap<>(deltas).entrySet().stream()
+                .filter(entry -> !entry.getValue().isZero())
+                .toList();
+        if (changes.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<Key, Delta> change : changes) {
+            if (!existingRows.contains(change.getKey())) {
+                insertRow(change.getKey());
+            }
+        }
+
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_ROW,
+                changes.stream().map(TaskWorkloadRollup::updateParameters).toList());
+        for (int i = 0; i < counts.length; i++) {
+            // A rebuild removed the row after it was cached as existing. Rebuilds wait for this
+            // transaction, so the delta is not part of the rebuilt table and is applied once
+            if (counts[i] == 0) {
+                Map.Entry<Key, Delta> change = changes.get(i);
+                insertRow(change.getKey());
+                jdbcTemplate.update(UPDATE_ROW, updateParameters(change));
+            }
+        }
+    }
+
+    private void insertRow(Key key) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("INSERT INTO task_workload "
+                     + "(assigned_to_id, status, priority, due_date, task_count, estimated_hours) VALUES (?, ?, ?, ?, 0, 0)")) {
+            connection.setAutoCommit(true);
+            statement.setInt(1, key.assigneeId());
+            statement.setString(2, key.status());
+            statement.setString(3, key.priority());
+            statement.setDate(4, Date.valueOf(key.dueDate()));
+            statement.executeUpdate();
+        } catch (SQLException ex) {
+            // Another transaction inserted the row first
+            log.debug("Workload row {} already exists", key);
+        }
+        existingRows.add(key);
+    }
+
+    private static Object[] updateParameters(Map.Entry<Key, Delta> change) {
+        Key key = change.getKey();
+        Delta delta = change.getValue();
+        return new Object[] {delta.count, delta.hours, key.assigneeId(), key.status(), key.priority(),
+                Date.valueOf(key.dueDate())};
+    }
+
+    private static AssigneeWorkload emptyWorkload(String assignedTo) {
+        return AssigneeWorkload.builder()
+                .assignedTo(assignedTo)
+                .statusCounts(new HashMap<>())
+                .priorityCounts(new HashMap<>())
+                .build();
+    }
+
+    private static void accumulate(AssigneeWorkload workload, String status, String priority,
+                                   long count, long hours, long overdue) {
+        workload.setOpenTasks(workload.getOpenTasks() + count);
+        workload.setEstimatedHours(workload.getEstimatedHours() + hours);
+        workload.setOverdueTasks(workload.getOverdueTasks() + overdue);
+        workload.getStatusCounts().merge(status, count, Long::sum);
+        workload.getPriorityCounts().merge(priority, count, Long::sum);
+    }
+
+    private record Key(int assigneeId, String status, String priority, LocalDate dueDate) implements Comparable<Key> {
+
+        private static final Comparator<Key> ORDER = Comparator.comparingInt(Key::assigneeId)
+                .thenComparing(Key::status)
+                .thenComparing(Key::priority)
+                .thenComparing(Key::dueDate);
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private static final class Delta {
+        private long count;
+        private long hours;
+
+        void add(long count, long hours) {
+            this.count += count;
+            this.hours += hours;
+        }
+
+        boolean isZero() {
+            return count == 0 && hours == 0;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+-- Tasks table, as previously generated by Hibernate from the Task entity
+
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE tasks (
+    id              BIGINT       NOT NULL,
+    title           VARCHAR(100) NOT NULL,
+    description     VARCHAR(500),
+    due_date        DATE,
+    status          VARCHAR(20)  NOT NULL,
+    priority        VARCHAR(20)  NOT NULL,
+    category        VARCHAR(50)  NOT NULL,
+    assigned_to     VARCHAR(100),
+    estimated_hours INTEGER,
+    completion_date TIMESTAMP(6),
+    created_at      TIMESTAMP(6) NOT NULL,
+    updated_at      TIMESTAMP(6) NOT NULL,
+    created_by      VARCHAR(100),
+    version         BIGINT       DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_tasks PRIMARY KEY (id),
+    CONSTRAINT ck_tasks_status CHECK (status IN ('TODO', 'IN_PROGRESS', 'ON_HOLD', 'COMPLETED', 'CANCELLED')),
+    CONSTRAINT ck_tasks_priority CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH', 'URGENT'))
+);
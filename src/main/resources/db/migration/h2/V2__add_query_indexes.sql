@@ -0,0 +1,24 @@
+-- Indexes matched to the TaskRepository query shapes. H2 has no partial indexes, so the
+-- open-task due date index covers all statuses here
+
+-- findByStatus, findByStatusOrderByCompletionDateDesc, status filters
+CREATE INDEX idx_tasks_status_completion_date ON tasks (status, completion_date DESC);
+
+-- findOverdueTasks, findTasksDueToday, findTasksDueWithinDays, getOpenTaskCountByDueDate
+CREATE INDEX idx_tasks_open_due_date ON tasks (due_date, status);
+
+-- findByAssignedTo, assignee + status filters
+CREATE INDEX idx_tasks_assigned_to_status ON tasks (assigned_to, status);
+
+-- findByPriority, findByPriorityAndStatus, findHighPriorityPendingTasks
+CREATE INDEX idx_tasks_priority_status ON tasks (priority, status);
+
+-- findRecentlyUpdatedTasks
+CREATE INDEX idx_tasks_updated_at ON tasks (updated_at DESC);
+
+-- findByCreatedAtBetween and the default createdAt sort
+CREATE INDEX idx_tasks_created_at ON tasks (created_at);
+
+-- findByCategory, findByCreatedBy
+CREATE INDEX idx_tasks_category ON tasks (category);
+CREATE INDEX idx_tasks_created_by ON tasks (created_by);
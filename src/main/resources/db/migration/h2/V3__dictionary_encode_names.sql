@@ -0,0 +1,70 @@
+-- Category, assignee and creator names move to lookup tables keyed by integers. Each name
+-- has a canonical key. Category keys are trimmed and lower case, so categories differing only
+-- in case share one entry; people are keyed by their exact spelling
+
+CREATE TABLE task_categories (
+    id            INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    name          VARCHAR(50)  NOT NULL,
+    canonical_key VARCHAR(50)  NOT NULL,
+    CONSTRAINT pk_task_categories PRIMARY KEY (id),
+    CONSTRAINT uk_task_categories_canonical_key UNIQUE (canonical_key)
+);
+
+CREATE TABLE task_people (
+    id            INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    name          VARCHAR(100) NOT NULL,
+    canonical_key VARCHAR(100) NOT NULL,
+    CONSTRAINT pk_task_people PRIMARY KEY (id),
+    CONSTRAINT uk_task_people_canonical_key UNIQUE (canonical_key)
+);
+
+INSERT INTO task_categories (name, canonical_key)
+SELECT MIN(TRIM(category)), LOWER(TRIM(category))
+FROM tasks
+GROUP BY LOWER(TRIM(category));
+
+INSERT INTO task_people (name, canonical_key)
+SELECT DISTINCT person, person
+FROM (SELECT assigned_to AS person FROM tasks UNION ALL SELECT created_by FROM tasks) people
+WHERE person IS NOT NULL;
+
+ALTER TABLE tasks ADD COLUMN category_id INTEGER;
+ALTER TABLE tasks ADD COLUMN assigned_to_id INTEGER;
+ALTER TABLE tasks ADD COLUMN created_by_id INTEGER;
+
+UPDATE tasks SET
+    category_id = (SELECT c.id FROM task_categories c WHERE c.canonical_key = LOWER(TRIM(tasks.category))),
+    assigned_to_id = (SELECT p.id FROM task_people p WHERE p.canonical_key = tasks.assigned_to),
+    created_by_id = (SELECT p.id FROM task_people p WHERE p.canonical_key = tasks.created_by);
+
+ALTER TABLE tasks ALTER COLUMN category_id SET NOT NULL;
+
+DROP INDEX idx_tasks_assigned_to_status;
+DROP INDEX idx_tasks_category;
+DROP INDEX idx_tasks_created_by;
+
+ALTER TABLE tasks DROP COLUMN category;
+ALTER TABLE tasks DROP COLUMN assigned_to;
+ALTER TABLE tasks DROP COLUMN created_by;
+
+ALTER TABLE tasks ADD CONSTRAINT fk_tasks_category FOREIGN KEY (category_id) REFERENCES task_categories (id);
+ALTER TABLE tasks ADD CONSTRAINT fk_tasks_assigned_to FOREIGN KEY (assigned_to_id) REFERENCES task_people (id);
+ALTER TABLE tasks ADD CONSTRAINT fk_tasks_created_by FOREIGN KEY (created_by_id) REFERENCES task_people (id);
+
+-- findByAssignedTo, assignee + status filters
+CREATE INDEX idx_tasks_assigned_to_status ON tasks (assigned_to_id, status);
+
+-- findByCategory, findByCreatedBy
+CREATE INDEX idx_tasks_category ON tasks (category_id);
+CREATE INDEX idx_tasks_created_by ON tasks (created_by_id);
+
+-- Tasks with their names, for the reactive read API
+CREATE VIEW task_view AS
+SELECT t.id, t.title, t.description, t.due_date, t.status, t.priority,
+       c.name AS category, a.name AS assigned_to, t.estimated_hours, t.completion_date,
+       t.created_at, t.updated_at, b.name AS created_by, t.version,
+       t.category_id, t.assigned_to_id, t.created_by_id
+FROM tasks t
+JOIN task_categories c ON c.id = t.category_id
+LEFT JOIN task_people a ON a.id = t.assigned_to_id
+LEFT JOIN task_people b ON b.id = t.created_by_id;
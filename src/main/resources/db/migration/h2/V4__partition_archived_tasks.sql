@@ -0,0 +1,20 @@
+-- Archived tasks are flagged rather than partitioned; H2 has no declarative partitioning.
+-- Active-work queries add archived = FALSE, lookups by id and includeArchived queries don't
+
+DROP VIEW task_view;
+
+ALTER TABLE tasks ADD COLUMN archived BOOLEAN DEFAULT FALSE NOT NULL;
+
+-- findArchivableTasks
+CREATE INDEX idx_tasks_archivable ON tasks (archived, status, updated_at);
+
+-- Tasks with their names, for the reactive read API
+CREATE VIEW task_view AS
+SELECT t.id, t.title, t.description, t.due_date, t.status, t.priority,
+       c.name AS category, a.name AS assigned_to, t.estimated_hours, t.completion_date,
+       t.created_at, t.updated_at, b.name AS created_by, t.version,
+       t.category_id, t.assigned_to_id, t.created_by_id, t.archived
+FROM tasks t
+JOIN task_categories c ON c.id = t.category_id
+LEFT JOIN task_people a ON a.id = t.assigned_to_id
+LEFT JOIN task_people b ON b.id = t.created_by_id;
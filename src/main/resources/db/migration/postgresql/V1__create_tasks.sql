@@ -0,0 +1,33 @@
+-- Tasks table of the Task entity. Databases that ddl-auto=update created before Flyway
+-- already have a tasks table, with IDENTITY ids and possibly no version column; they are
+-- baselined at version 0 and brought up to this schema here, so every statement
+-- tolerates the existing objects.
+
+CREATE SEQUENCE IF NOT EXISTS tasks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id              BIGINT       NOT NULL,
+    title           VARCHAR(100) NOT NULL,
+    description     VARCHAR(500),
+    due_date        DATE,
+    status          VARCHAR(20)  NOT NULL,
+    priority        VARCHAR(20)  NOT NULL,
+    category        VARCHAR(50)  NOT NULL,
+    assigned_to     VARCHAR(100),
+    estimated_hours INTEGER,
+    completion_date TIMESTAMP(6),
+    created_at      TIMESTAMP(6) NOT NULL,
+    updated_at      TIMESTAMP(6) NOT NULL,
+    created_by      VARCHAR(100),
+    version         BIGINT       DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_tasks PRIMARY KEY (id),
+    CONSTRAINT ck_tasks_status CHECK (status IN ('TODO', 'IN_PROGRESS', 'ON_HOLD', 'COMPLETED', 'CANCELLED')),
+    CONSTRAINT ck_tasks_priority CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH', 'URGENT'))
+);
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+
+-- Move the sequence past ids the identity column handed out; it never moves backwards
+SELECT setval('tasks_seq', GREATEST((SELECT last_value FROM tasks_seq), MAX(id) + 50))
+FROM tasks
+HAVING MAX(id) IS NOT NULL;
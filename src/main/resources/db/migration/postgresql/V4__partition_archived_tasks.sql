@@ -0,0 +1,115 @@
+-- Archived tasks move to their own partition. Tasks are list-partitioned on the archived
+-- flag, so queries restricted to archived = false (all active-work queries) scan only
+-- tasks_active and its indexes, while lookups by id and includeArchived queries still see
+-- both partitions through the parent table. Archiving a task updates the flag, which moves
+-- the row between partitions.
+
+DROP VIEW task_view;
+
+ALTER TABLE tasks RENAME TO tasks_old;
+
+CREATE TABLE tasks (
+    id              BIGINT       NOT NULL,
+    title           VARCHAR(100) NOT NULL,
+    description     VARCHAR(500),
+    due_date        DATE,
+    status          VARCHAR(20)  NOT NULL,
+    priority        VARCHAR(20)  NOT NULL,
+    category_id     INTEGER      NOT NULL,
+    assigned_to_id  INTEGER,
+    estimated_hours INTEGER,
+    completion_date TIMESTAMP(6),
+    created_at      TIMESTAMP(6) NOT NULL,
+    updated_at      TIMESTAMP(6) NOT NULL,
+    created_by_id   INTEGER,
+    version         BIGINT       DEFAULT 0 NOT NULL,
+    archived        BOOLEAN      DEFAULT FALSE NOT NULL
+) PARTITION BY LIST (archived);
+
+CREATE TABLE tasks_active PARTITION OF tasks FOR VALUES IN (FALSE);
+CREATE TABLE tasks_archived PARTITION OF tasks FOR VALUES IN (TRUE);
+
+INSERT INTO tasks (id, title, description, due_date, status, priority, category_id, assigned_to_id,
+                   estimated_hours, completion_date, created_at, updated_at, created_by_id, version)
+SELECT id, title, description, due_date, status, priority, category_id, assigned_to_id,
+       estimated_hours, completion_date, created_at, updated_at, created_by_id, version
+FROM tasks_old;
+
+DROP TABLE tasks_old;
+
+-- The partition key must be part of the primary key, so the primary key alone no longer keeps
+-- ids unique across partitions. task_ids holds every id exactly once: an id is registered
+-- before its row is inserted and released before the row is deleted. Moving a row between
+-- partitions is a delete followed by an insert, so the id is released, then registered again.
+-- Ids themselves cannot be updated
+ALTER TABLE tasks ADD CONSTRAINT pk_tasks PRIMARY KEY (id, archived);
+
+CREATE TABLE task_ids (
+    id BIGINT NOT NULL,
+    CONSTRAINT pk_task_ids PRIMARY KEY (id)
+);
+
+INSERT INTO task_ids (id) SELECT id FROM tasks;
+
+CREATE FUNCTION register_task_id() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO task_ids (id) VALUES (NEW.id);
+        RETURN NEW;
+    ELSIF TG_OP = 'UPDATE' THEN
+        IF NEW.id <> OLD.id THEN
+            RAISE EXCEPTION 'Task ids cannot be changed (task %)', OLD.id;
+        END IF;
+        RETURN NEW;
+    END IF;
+    DELETE FROM task_ids WHERE id = OLD.id;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tasks_register_id BEFORE INSERT OR DELETE OR UPDATE OF id ON tasks
+    FOR EACH ROW EXECUTE FUNCTION register_task_id();
+
+ALTER TABLE tasks ADD CONSTRAINT ck_tasks_status
+    CHECK (status IN ('TODO', 'IN_PROGRESS', 'ON_HOLD', 'COMPLETED', 'CANCELLED'));
+ALTER TABLE tasks ADD CONSTRAINT ck_tasks_priority CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH', 'URGENT'));
+ALTER TABLE tasks ADD CONSTRAINT fk_tasks_category FOREIGN KEY (category_id) REFERENCES task_categories (id);
+ALTER TABLE tasks ADD CONSTRAINT fk_tasks_assigned_to FOREIGN KEY (assigned_to_id) REFERENCES task_people (id);
+ALTER TABLE tasks ADD CONSTRAINT fk_tasks_created_by FOREIGN KEY (created_by_id) REFERENCES task_people (id);
+
+-- findById without the partition key: one index probe per partition. Not unique, as unique
+-- indexes must include the partition key; task_ids keeps ids unique
+CREATE INDEX idx_tasks_id ON tasks (id);
+
+-- Indexes of V2 and V3, now created on every partition
+
+CREATE INDEX idx_tasks_status_completion_date ON tasks (status, completion_date DESC);
+
+CREATE INDEX idx_tasks_open_due_date ON tasks (due_date, status)
+    WHERE status NOT IN ('COMPLETED', 'CANCELLED');
+
+CREATE INDEX idx_tasks_assigned_to_status ON tasks (assigned_to_id, status);
+
+CREATE INDEX idx_tasks_priority_status ON tasks (priority, status);
+
+CREATE INDEX idx_tasks_updated_at ON tasks (updated_at DESC);
+
+CREATE INDEX idx_tasks_created_at ON tasks (created_at);
+
+CREATE INDEX idx_tasks_category ON tasks (category_id);
+CREATE INDEX idx_tasks_created_by ON tasks (created_by_id);
+
+-- findArchivableTasks: finished tasks in the active partition, oldest update first
+CREATE INDEX idx_tasks_archivable ON tasks_active (updated_at, id)
+    WHERE status IN ('COMPLETED', 'CANCELLED');
+
+-- Tasks with their names, for the reactive read API
+CREATE VIEW task_view AS
+SELECT t.id, t.title, t.description, t.due_date, t.status, t.priority,
+       c.name AS category, a.name AS assigned_to, t.estimated_hours, t.completion_date,
+       t.created_at, t.updated_at, b.name AS created_by, t.version,
+       t.category_id, t.assigned_to_id, t.created_by_id, t.archived
+FROM tasks t
+JOIN task_categories c ON c.id = t.category_id
+LEFT JOIN task_people a ON a.id = t.assigned_to_id
+LEFT JOIN task_people b ON b.id = t.created_by_id;
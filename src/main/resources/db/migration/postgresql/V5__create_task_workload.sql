@@ -0,0 +1,21 @@
+-- Open work per assignee, maintained incrementally by TaskWorkloadRollup. One row per
+-- assignee, status, priority and due date; 9999-12-31 stands for "no due date" so that the
+-- key has no NULLs. Rows whose count drops to zero stay until the next rebuild
+
+CREATE TABLE task_workload (
+    assigned_to_id  INTEGER     NOT NULL,
+    status          VARCHAR(20) NOT NULL,
+    priority        VARCHAR(20) NOT NULL,
+    due_date        DATE        NOT NULL,
+    task_count      BIGINT      NOT NULL,
+    estimated_hours BIGINT      NOT NULL,
+    CONSTRAINT pk_task_workload PRIMARY KEY (assigned_to_id, status, priority, due_date),
+    CONSTRAINT fk_task_workload_assigned_to FOREIGN KEY (assigned_to_id) REFERENCES task_people (id)
+);
+
+INSERT INTO task_workload (assigned_to_id, status, priority, due_date, task_count, estimated_hours)
+SELECT assigned_to_id, status, priority, COALESCE(due_date, DATE '9999-12-31'), COUNT(*),
+       COALESCE(SUM(estimated_hours), 0)
+FROM tasks
+WHERE assigned_to_id IS NOT NULL AND archived = FALSE AND status IN ('TODO', 'IN_PROGRESS', 'ON_HOLD')
+GROUP BY assigned_to_id, status, priority, COALESCE(due_date, DATE '9999-12-31');
@@ -0,0 +1,105 @@
+package com.codewithsid.taskmanager.cache;
+
+import com.codewithsid.taskmanager.event.TaskChangedEvent;
+import com.codewithsid.taskmanager.model.Task;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    void concurrentCallersShareOneExecution() throws Exception {
+        QueryCoalescer coalescer = new QueryCoalescer(meterRegistry, true, Duration.ZERO);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<Integer> leader = executor.submit(() -> coalescer.execute("overdue", () -> {
+                started.countDown();
+                await(release);
+                return executions.incrementAndGet();
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Future<Integer>> followers = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                followers.add(executor.submit(() -> coalescer.execute("overdue", executions::incrementAndGet)));
+            }
+            while (count("in-flight") < 7) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+            for (Future<Integer> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+            }
+            assertThat(executions).hasValue(1);
+            assertThat(count("database")).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void reusesResultsWithinTheWindowUntilATaskChanges() {
+        QueryCoalescer coalescer = new QueryCoalescer(meterRegistry, true, Duration.ofMinutes(1));
+
+        assertThat(coalescer.execute("overdue", executions::incrementAndGet)).isEqualTo(1);
+        assertThat(coalescer.execute("overdue", executions::incrementAndGet)).isEqualTo(1);
+        assertThat(coalescer.execute("due-today", executions::incrementAndGet)).isEqualTo(2);
+        assertThat(count("micro-cache")).isEqualTo(1);
+
+        coalescer.onTaskChanged(TaskChangedEvent.created(Task.builder().id(1L).title("New").build()));
+        assertThat(coalescer.execute("overdue", executions::incrementAndGet)).isEqualTo(3);
+    }
+
+    @Test
+    void passesFailuresThroughWithoutKeepingThem() {
+        QueryCoalescer coalescer = new QueryCoalescer(meterRegistry, true, Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> coalescer.execute("overdue", () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(coalescer.execute("overdue", executions::incrementAndGet)).isEqualTo(1);
+    }
+
+    @Test
+    void executesEveryCallWhenDisabled() {
+        QueryCoalescer coalescer = new QueryCoalescer(meterRegistry, false, Duration.ofMinutes(1));
+
+        coalescer.execute("overdue", executions::incrementAndGet);
+        coalescer.execute("overdue", executions::incrementAndGet);
+        assertThat(executions).hasValue(2);
+    }
+
+    private double count(String source) {
+        return meterRegistry.find("task.query.coalescing").tag("source", source).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.codewithsid.taskmanager.concurrency;
+
+import com.codewithsid.taskmanager.exception.TaskException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BulkheadInterceptor interceptor = new BulkheadInterceptor(
+            new MockEnvironment().withProperty("task.bulkhead.search.max-concurrent", "1"),
+            meterRegistry, Duration.ZERO);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void rejectsRequestsBeyondTheLimitUntilAPermitIsReleased() throws Exception {
+        HandlerMethod search = handler("search");
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        MockHttpServletRequest second = new MockHttpServletRequest();
+
+        assertThat(interceptor.preHandle(first, response, search)).isTrue();
+        assertThatThrownBy(() -> interceptor.preHandle(second, response, search))
+                .isInstanceOfSatisfying(TaskException.class,
+                        ex -> assertThat(ex.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(meterRegistry.get("task.bulkhead.rejected").tag("bulkhead", "search").counter().count())
+                .isEqualTo(1);
+
+        interceptor.afterCompletion(first, response, search, null);
+        assertThat(interceptor.preHandle(second, response, search)).isTrue();
+    }
+
+    @Test
+    void leavesHandlersWithoutBulkheadUnlimited() throws Exception {
+        HandlerMethod lookup = handler("lookup");
+        for (int i = 0; i < 10; i++) {
+            assertThat(interceptor.preHandle(new MockHttpServletRequest(), response, lookup)).isTrue();
+        }
+    }
+
+    private static HandlerMethod handler(String method) throws NoSuchMethodException {
+        return new HandlerMethod(new Handlers(), Handlers.class.getMethod(method));
+    }
+
+    static class Handlers {
+
+        @Bulkhead("search")
+        public void search() {
+        }
+
+        public void lookup() {
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.codewithsid.taskmanager.controller;
+
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskControllerConditionalRequestTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        taskId = taskService.createTask(Task.builder().title("Conditional").category("ETagTest").build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskService.deleteTask(taskId);
+    }
+
+    @Test
+    void getAnswersMatchingIfNoneMatchWithNotModified() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/{id}", taskId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+        mockMvc.perform(get("/api/v1/tasks/{id}", taskId).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void staleIfMatchIsRejectedWithPreconditionFailed() throws Exception {
+        String body = "{\"title\":\"Renamed\",\"status\":\"TODO\",\"priority\":\"LOW\",\"category\":\"ETagTest\"}";
+
+        mockMvc.perform(put("/api/v1/tasks/{id}", taskId).header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.version").value(1));
+
+        mockMvc.perform(patch("/api/v1/tasks/{id}", taskId).header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"Lost update\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/v1/tasks/{id}", taskId))
+                .andExpect(jsonPath("$.title").value("Renamed"));
+    }
+
+    @Test
+    void statusTransitionsReturnTheNewETag() throws Exception {
+        mockMvc.perform(patch("/api/v1/tasks/{id}/start", taskId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        mockMvc.perform(patch("/api/v1/tasks/{id}/complete", taskId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+    }
+
+    @Test
+    void listETagChangesWhenAMatchingTaskChanges() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/tasks/filter").param("category", "ETagTest"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/tasks/filter").param("category", "ETagTest").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        taskService.completeTask(taskId);
+
+        mockMvc.perform(get("/api/v1/tasks/filter").param("category", "ETagTest").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+}
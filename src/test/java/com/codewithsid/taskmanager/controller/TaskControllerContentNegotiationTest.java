@@ -0,0 +1,82 @@
+package com.codewithsid.taskmanager.controller;
+
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.service.TaskService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that list endpoints answer in CBOR and Smile when asked, with the same content
+ * as the JSON response, and stay JSON by default.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskControllerContentNegotiationTest {
+
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        taskId = taskService.createTask(Task.builder().title("Negotiated").category("WireFormatTest").build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskService.deleteTask(taskId);
+    }
+
+    @Test
+    void filterAnswersInTheRequestedFormat() throws Exception {
+        JsonNode json = objectMapper.readTree(fetch("/api/v1/tasks/filter?category=WireFormatTest", MediaType.APPLICATION_JSON));
+        JsonNode cbor = new CBORMapper().readTree(fetch("/api/v1/tasks/filter?category=WireFormatTest", MediaType.APPLICATION_CBOR));
+        JsonNode smile = new SmileMapper().readTree(fetch("/api/v1/tasks/filter?category=WireFormatTest", APPLICATION_SMILE));
+
+        assertThat(json.path("content").get(0).path("title").asText()).isEqualTo("Negotiated");
+        assertThat(cbor).isEqualTo(json);
+        assertThat(smile).isEqualTo(json);
+    }
+
+    @Test
+    void statusListsDefaultToJson() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/status/{status}", "TODO"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().stringValues(HttpHeaders.VARY, Matchers.hasItem(HttpHeaders.ACCEPT)));
+    }
+
+    private byte[] fetch(String url, MediaType mediaType) throws Exception {
+        return mockMvc.perform(get(url).accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+}
@@ -0,0 +1,133 @@
+package com.codewithsid.taskmanager.dictionary;
+
+import com.codewithsid.taskmanager.dto.TaskFilter;
+import com.codewithsid.taskmanager.dto.TaskSummary;
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.service.TaskService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that category and people names are stored as dictionary keys while the service
+ * keeps reading, filtering and sorting by name.
+ */
+@SpringBootTest
+class TaskDictionariesTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskDictionaries dictionaries;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (!createdIds.isEmpty()) {
+            taskService.bulkDeleteTasks(createdIds);
+        }
+    }
+
+    @Test
+    void storesNamesOnceAndAnswersWithTheRegisteredSpelling() {
+        Task first = create("Dictionary Probe", "Probe.Owner@company.com");
+        Task second = create(" dictionary probe ", "probe.owner@company.com");
+
+        assertThat(second.getCategory()).isEqualTo("Dictionary Probe");
+        assertThat(second.getAssignedTo()).isEqualTo("probe.owner@company.com");
+        assertThat(taskService.getTaskById(second.getId()).getCategory()).isEqualTo("Dictionary Probe");
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT category_id, assigned_to_id FROM tasks WHERE id = ?", first.getId());
+        assertThat(row.get("CATEGORY_ID")).isEqualTo(dictionaries.categories().findId("DICTIONARY PROBE"));
+        assertThat(row.get("ASSIGNED_TO_ID")).isEqualTo(dictionaries.people().findId("Probe.Owner@company.com"));
+        assertThat(dictionaries.people().findId("probe.owner@company.com")).isNotEqualTo(row.get("ASSIGNED_TO_ID"));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM task_categories WHERE canonical_key = 'dictionary probe'", Integer.class))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void filtersCategoriesCaseInsensitivelyAndPeopleExactlyWithoutRegisteringUnknownNames() {
+        create("Dictionary Filter", "filter.owner@company.com");
+
+        TaskFilter byCategory = TaskFilter.builder().category("DICTIONARY FILTER").build();
+        assertThat(taskService.filterTasks(byCategory, Pageable.unpaged()).getContent()).hasSize(1);
+        TaskFilter byAssignee = TaskFilter.builder().assignedTo("filter.owner@company.com").build();
+        assertThat(taskService.filterTasks(byAssignee, Pageable.unpaged()).getContent()).hasSize(1);
+        TaskFilter byOtherCase = TaskFilter.builder().assignedTo("Filter.Owner@company.com").build();
+        assertThat(taskService.filterTasks(byOtherCase, Pageable.unpaged()).getContent()).isEmpty();
+
+        TaskFilter unknown = TaskFilter.builder().category("No Such Dictionary Category").build();
+        assertThat(taskService.filterTasks(unknown, Pageable.unpaged()).getContent()).isEmpty();
+        assertThat(dictionaries.categories().findId("No Such Dictionary Category")).isNull();
+    }
+
+    @Test
+    void sortsByNameRatherThanByDictionaryKey() {
+        // Registered in reverse alphabetical order, so their keys sort the other way round
+        create("Dictionary Sort Zulu", "zulu.sorter@company.com");
+        create("Dictionary Sort Alpha", "alpha.sorter@company.com");
+
+        TaskFilter filter = TaskFilter.builder().title("Dictionary task").build();
+        assertThat(taskService.filterTasks(filter, PageRequest.of(0, 10, Sort.by("category"))).getContent())
+                .extracting(Task::getCategory)
+                .containsExactly("Dictionary Sort Alpha", "Dictionary Sort Zulu");
+        assertThat(taskService.filterTasks(filter, PageRequest.of(0, 10, Sort.by("assignedTo").descending()))
+                .getContent())
+                .extracting(Task::getAssignedTo)
+                .containsExactly("zulu.sorter@company.com", "alpha.sorter@company.com");
+        assertThat(taskService.filterTaskSummaries(filter, PageRequest.of(0, 10, Sort.by("category"))).getContent())
+                .extracting(TaskSummary::id)
+                .containsExactly(createdIds.get(1), createdIds.get(0));
+    }
+
+    @Test
+    void registersNewNamesWhileTheTaskTransactionHoldsTheLastPooledConnection() throws SQLException {
+        List<Connection> held = new ArrayList<>();
+        try {
+            while (held.size() < dataSource.getMaximumPoolSize() - 1) {
+                held.add(dataSource.getConnection());
+            }
+            Task task = create("Dictionary Pool Probe", "pool.probe@company.com");
+            assertThat(task.getCategory()).isEqualTo("Dictionary Pool Probe");
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+        assertThat(taskService.getWorkload("pool.probe@company.com").getOpenTasks()).isEqualTo(1);
+    }
+
+    private Task create(String category, String assignedTo) {
+        Task task = taskService.createTask(Task.builder()
+                .title("Dictionary task")
+                .category(category)
+                .assignedTo(assignedTo)
+                .build());
+        createdIds.add(task.getId());
+        return task;
+    }
+}
@@ -0,0 +1,82 @@
+package com.codewithsid.taskmanager.duedate;
+
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskDueDateIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    private TaskDueDateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskDueDateIndex(null);
+        index.update(task(1L, TODAY.minusDays(3), Task.TaskStatus.TODO));
+        index.update(task(2L, TODAY, Task.TaskStatus.IN_PROGRESS));
+        index.update(task(3L, TODAY.plusDays(2), Task.TaskStatus.ON_HOLD));
+        index.update(task(4L, TODAY.minusDays(1), Task.TaskStatus.COMPLETED));
+        index.update(task(5L, null, Task.TaskStatus.TODO));
+    }
+
+    @Test
+    void answersRangesOfOpenTasksInDueDateOrder() {
+        assertThat(index.findDueBefore(TODAY)).containsExactly(1L);
+        assertThat(index.findDueBetween(TODAY, TODAY)).containsExactly(2L);
+        assertThat(index.findDueBetween(TODAY, TODAY.plusDays(7))).containsExactly(2L, 3L);
+        assertThat(index.findDueBetween(TODAY, TODAY.minusDays(1))).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void tasksRollFromDueTodayToOverdueWithTheCalendar() {
+        LocalDate tomorrow = TODAY.plusDays(1);
+
+        assertThat(index.findDueBefore(tomorrow)).containsExactly(1L, 2L);
+        assertThat(index.findDueBetween(tomorrow, tomorrow)).isEmpty();
+    }
+
+    @Test
+    void updatesMoveAndDropTasks() {
+        index.update(task(3L, TODAY.minusDays(5), Task.TaskStatus.ON_HOLD));
+        index.update(task(2L, TODAY, Task.TaskStatus.CANCELLED));
+        index.update(task(4L, TODAY, Task.TaskStatus.TODO));
+        index.remove(1L);
+
+        assertThat(index.findDueBefore(TODAY)).containsExactly(3L);
+        assertThat(index.findDueBetween(TODAY, TODAY)).containsExactly(4L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void rebuildKeepsChangesThatArriveWhileItReadsTheTable() {
+        TaskRepository repository = mock(TaskRepository.class);
+        TaskDueDateIndex rebuilt = new TaskDueDateIndex(repository);
+        when(repository.getOpenTaskDueDates()).thenAnswer(invocation -> {
+            // Committed after the query read the rows
+            rebuilt.update(task(1L, TODAY.plusDays(1), Task.TaskStatus.TODO));
+            rebuilt.update(task(2L, TODAY, Task.TaskStatus.COMPLETED));
+            rebuilt.update(task(6L, TODAY, Task.TaskStatus.TODO));
+            return List.of(new Object[] {1L, TODAY.minusDays(3)}, new Object[] {2L, TODAY});
+        });
+
+        rebuilt.rebuild();
+
+        assertThat(rebuilt.findDueBefore(TODAY)).isEmpty();
+        assertThat(rebuilt.findDueBetween(TODAY, TODAY.plusDays(1))).containsExactly(6L, 1L);
+        assertThat(rebuilt.size()).isEqualTo(2);
+    }
+
+    private static Task task(Long id, LocalDate dueDate, Task.TaskStatus status) {
+        return Task.builder().id(id).title("Task " + id).dueDate(dueDate).status(status).build();
+    }
+}
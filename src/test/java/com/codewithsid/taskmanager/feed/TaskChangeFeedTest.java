@@ -0,0 +1,102 @@
+package com.codewithsid.taskmanager.feed;
+
+import com.codewithsid.taskmanager.dto.TaskChange;
+import com.codewithsid.taskmanager.dto.TaskChangeBatch;
+import com.codewithsid.taskmanager.event.TaskChangedEvent;
+import com.codewithsid.taskmanager.model.Task;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskChangeFeedTest {
+
+    private static final Executor NEVER_DRAINS = runnable -> { };
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void resumesAfterTheLastSeenSequence() {
+        TaskChangeFeed feed = feed(10, 10);
+        feed.onTaskChanged(TaskChangedEvent.created(task(1L, "alice", "Work")));
+        feed.onTaskChanged(TaskChangedEvent.created(task(2L, "bob", "Home")));
+        feed.onTaskChanged(TaskChangedEvent.deleted(task(1L, "alice", "Work")));
+
+        TaskChangeBatch all = feed.changesSince(0, TaskChangeFilter.ALL, 100);
+        assertThat(all.getChanges()).extracting(TaskChange::getSequence).containsExactly(1L, 2L, 3L);
+        assertThat(all.getChanges().get(2).getTask()).isNull();
+        assertThat(all.getNextSince()).isEqualTo(3);
+        assertThat(all.isReset()).isFalse();
+
+        TaskChangeBatch page = feed.changesSince(1, TaskChangeFilter.ALL, 1);
+        assertThat(page.getChanges()).extracting(TaskChange::getTaskId).containsExactly(2L);
+        assertThat(page.getNextSince()).isEqualTo(2);
+        assertThat(page.isHasMore()).isTrue();
+
+        assertThat(feed.changesSince(3, TaskChangeFilter.ALL, 100).getChanges()).isEmpty();
+    }
+
+    @Test
+    void filtersOnAssigneeAndCategoryBeforeOrAfterTheChange() {
+        TaskChangeFeed feed = feed(10, 10);
+        Task before = task(1L, "alice", "Work");
+        feed.onTaskChanged(TaskChangedEvent.created(before));
+        feed.onTaskChanged(TaskChangedEvent.created(task(2L, "bob", "work")));
+        feed.onTaskChanged(TaskChangedEvent.updated(before, task(1L, "bob", "Work")));
+
+        assertThat(feed.changesSince(0, new TaskChangeFilter("alice", null), 100).getChanges())
+                .extracting(TaskChange::getSequence).containsExactly(1L, 3L);
+        assertThat(feed.changesSince(0, new TaskChangeFilter("bob", "WORK"), 100).getChanges())
+                .extracting(TaskChange::getSequence).containsExactly(2L, 3L);
+
+        TaskChangeBatch none = feed.changesSince(0, new TaskChangeFilter("carol", null), 100);
+        assertThat(none.getChanges()).isEmpty();
+        assertThat(none.getNextSince()).isEqualTo(3);
+    }
+
+    @Test
+    void signalsResetWhenTheRequestedSequenceLeftTheBuffer() {
+        TaskChangeFeed feed = feed(3, 10);
+        for (long id = 1; id <= 5; id++) {
+            feed.onTaskChanged(TaskChangedEvent.created(task(id, "alice", "Work")));
+        }
+
+        TaskChangeBatch stale = feed.changesSince(1, TaskChangeFilter.ALL, 100);
+        assertThat(stale.isReset()).isTrue();
+        assertThat(stale.getChanges()).extracting(TaskChange::getSequence).containsExactly(3L, 4L, 5L);
+
+        assertThat(feed.changesSince(2, TaskChangeFilter.ALL, 100).isReset()).isFalse();
+        assertThat(feed.changesSince(42, TaskChangeFilter.ALL, 100).isReset()).isTrue();
+    }
+
+    @Test
+    void disconnectsSubscribersThatFallBehind() {
+        TaskChangeFeed feed = feed(100, 2);
+        feed.subscribe(null, TaskChangeFilter.ALL);
+        feed.subscribe(null, new TaskChangeFilter("bob", null));
+        assertThat(feed.getSubscriberCount()).isEqualTo(2);
+
+        for (long id = 1; id <= 3; id++) {
+            feed.onTaskChanged(TaskChangedEvent.created(task(id, "alice", "Work")));
+        }
+
+        assertThat(feed.getSubscriberCount()).isEqualTo(1);
+        assertThat(meterRegistry.counter("task.feed.disconnected").count()).isEqualTo(1);
+    }
+
+    private TaskChangeFeed feed(int bufferSize, int subscriberQueueSize) {
+        return new TaskChangeFeed(meterRegistry, bufferSize, subscriberQueueSize, Duration.ofMinutes(1), NEVER_DRAINS);
+    }
+
+    private static Task task(Long id, String assignedTo, String category) {
+        return Task.builder()
+                .id(id)
+                .title("Task " + id)
+                .assignedTo(assignedTo)
+                .category(category)
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.codewithsid.taskmanager.metrics;
+
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.service.TaskService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class RepositoryMetricsAspectTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void recordsQueryLatencyAndRowsPerRepositoryMethod() {
+        Timer timer = queryTimer("findByStatus");
+        long callsBefore = timer == null ? 0 : timer.count();
+        DistributionSummary rows = meterRegistry.find(RepositoryMetricsAspect.ROWS_SUMMARY)
+                .tag("query", "findByStatus").summary();
+        double rowsBefore = rows == null ? 0 : rows.totalAmount();
+
+        List<Task> tasks = taskService.getTasksByStatus(Task.TaskStatus.TODO);
+
+        assertThat(queryTimer("findByStatus").count()).isEqualTo(callsBefore + 1);
+        assertThat(meterRegistry.get(RepositoryMetricsAspect.ROWS_SUMMARY).tag("query", "findByStatus")
+                .summary().totalAmount()).isEqualTo(rowsBefore + tasks.size());
+    }
+
+    @Test
+    void timesServiceMethodsAndExposesHibernateStatistics() {
+        taskService.getTaskStatistics();
+
+        assertThat(meterRegistry.find("task.service").tag("method", "getTaskStatistics").timer())
+                .isNotNull()
+                .satisfies(timer -> assertThat(timer.count()).isPositive());
+        assertThat(meterRegistry.find("hibernate.statements").functionCounter()).isNotNull();
+        assertThat(meterRegistry.find("hibernate.flushes").functionCounter()).isNotNull();
+    }
+
+    private Timer queryTimer(String query) {
+        return meterRegistry.find(RepositoryMetricsAspect.QUERY_TIMER)
+                .tag("query", query)
+                .tag("exception", "none")
+                .timer();
+    }
+}
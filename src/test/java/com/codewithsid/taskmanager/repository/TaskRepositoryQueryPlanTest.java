@@ -0,0 +1,139 @@
+package com.codewithsid.taskmanager.repository;
+
+import com.codewithsid.taskmanager.model.Task;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.ParameterMetaData;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN on the SQL that Hibernate generates for each selective repository query
+ * and fails if H2 plans a full table scan. Queries that are meant to read the whole table
+ * (the statistics GROUP BYs, the LIKE search fallback and the all-optional filter query)
+ * are not listed.
+ *
+ * <p>Parameters are bound to sample values of the type H2 infers for them; a NULL would let
+ * H2 fold the condition away instead of planning it. The test runs against a database of
+ * its own, so its context does not load the sample data a second time into the shared one.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:taskplandb",
+        "spring.r2dbc.url=r2dbc:h2:mem:///taskplandb;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.codewithsid.taskmanager.repository.TaskRepositoryQueryPlanTest$RecordingStatementInspector"})
+class TaskRepositoryQueryPlanTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void selectiveQueriesUseAnIndex() {
+        LocalDate today = LocalDate.now();
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("findByStatus", () -> taskRepository.findByStatus(Task.TaskStatus.TODO));
+        queries.put("findByPriority", () -> taskRepository.findByPriority(Task.Priority.HIGH));
+        queries.put("findByCategory", () -> taskRepository.findByCategory("Development"));
+        queries.put("findByAssignedTo", () -> taskRepository.findByAssignedTo("john.doe"));
+        queries.put("findByCreatedBy", () -> taskRepository.findByCreatedBy("admin"));
+        queries.put("findOverdueTasks", () -> taskRepository.findOverdueTasks(today));
+        queries.put("findTasksDueToday", () -> taskRepository.findTasksDueToday(today));
+        queries.put("findTasksDueWithinDays", () -> taskRepository.findTasksDueWithinDays(today, today.plusDays(7)));
+        queries.put("findByStatusOrderByCompletionDateDesc",
+                () -> taskRepository.findByStatusOrderByCompletionDateDesc(Task.TaskStatus.COMPLETED));
+        queries.put("findByCreatedAtBetween",
+                () -> taskRepository.findByCreatedAtBetween(LocalDateTime.now().minusDays(1), LocalDateTime.now()));
+        queries.put("findByPriorityAndStatus",
+                () -> taskRepository.findByPriorityAndStatus(Task.Priority.HIGH, Task.TaskStatus.TODO));
+        queries.put("findHighPriorityPendingTasks", taskRepository::findHighPriorityPendingTasks);
+        queries.put("findRecentlyUpdatedTasks", () -> taskRepository.findRecentlyUpdatedTasks(PageRequest.of(0, 10)));
+
+        Map<String, String> plans = new LinkedHashMap<>();
+        queries.forEach((name, query) -> {
+            List<String> statements = RecordingStatementInspector.record(query);
+            String sql = statements.stream()
+                    .filter(statement -> statement.toLowerCase().contains(" from tasks "))
+                    .findFirst()
+                    .orElseThrow(() -> new AssertionError(name + " ran no query on tasks: " + statements));
+            plans.put(name, explain(sql));
+        });
+
+        assertThat(plans).allSatisfy((name, plan) ->
+                assertThat(plan).as("plan of %s", name).doesNotContainIgnoringCase("tableScan"));
+    }
+
+    private String explain(String sql) {
+        int parameters = (int) sql.chars().filter(c -> c == '?').count();
+        return jdbcTemplate.query("EXPLAIN " + sql, ps -> {
+            ParameterMetaData metaData = ps.getParameterMetaData();
+            for (int i = 1; i <= parameters; i++) {
+                ps.setObject(i, sampleValue(metaData.getParameterType(i)), metaData.getParameterType(i));
+            }
+        }, (ResultSet rs) -> {
+            StringBuilder plan = new StringBuilder();
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+            return plan.toString();
+        });
+    }
+
+    private static Object sampleValue(int sqlType) {
+        return switch (sqlType) {
+            case Types.BIGINT -> 1L;
+            case Types.INTEGER, Types.SMALLINT, Types.TINYINT -> 1;
+            case Types.BOOLEAN -> false;
+            case Types.DATE -> Date.valueOf(LocalDate.now());
+            case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE -> Timestamp.valueOf(LocalDateTime.now());
+            case Types.VARCHAR, Types.CHAR -> "TODO";
+            default -> throw new AssertionError("No sample value for SQL type " + sqlType);
+        };
+    }
+
+    /**
+     * Records the SQL that Hibernate prepares on the calling thread, so statements run by
+     * scheduled jobs or listeners on other threads never mix in.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> statements = new ThreadLocal<>();
+
+        static List<String> record(Runnable query) {
+            List<String> recorded = new ArrayList<>();
+            statements.set(recorded);
+            try {
+                query.run();
+            } finally {
+                statements.remove();
+            }
+            return recorded;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> recorded = statements.get();
+            if (recorded != null) {
+                recorded.add(sql);
+            }
+            return sql;
+        }
+    }
+}
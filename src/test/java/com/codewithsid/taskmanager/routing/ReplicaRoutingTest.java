@@ -0,0 +1,167 @@
+package com.codewithsid.taskmanager.routing;
+
+import com.codewithsid.taskmanager.duedate.TaskDueDateIndex;
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.search.TaskSearchIndex;
+import com.codewithsid.taskmanager.service.TaskService;
+import com.codewithsid.taskmanager.statistics.TaskStatisticsAggregator;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against the H2 stand-in replicas of the {@code replicas} profile and checks where
+ * connections are routed.
+ */
+@SpringBootTest(properties = "task.replicas.lag-check-interval=1h")
+@ActiveProfiles({"local", "replicas"})
+class ReplicaRoutingTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TaskSearchIndex searchIndex;
+
+    @Autowired
+    private TaskDueDateIndex dueDateIndex;
+
+    @Autowired
+    private TaskStatisticsAggregator statisticsAggregator;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        lagMonitor.checkLag();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        if (!createdIds.isEmpty()) {
+            taskService.bulkDeleteTasks(createdIds);
+        }
+        lagMonitor.checkLag();
+    }
+
+    @Test
+    void sendsReadOnlyTransactionsToReplicasAndWritesToThePrimary() {
+        double primary = routed("primary");
+        double replicas = routed("replica-0") + routed("replica-1");
+
+        taskService.getAllTasks(PageRequest.of(0, 5));
+        taskService.getAllTasks(PageRequest.of(0, 5));
+        assertThat(routed("replica-0") + routed("replica-1")).isEqualTo(replicas + 2);
+        assertThat(routed("replica-0")).isPositive();
+        assertThat(routed("replica-1")).isPositive();
+
+        createdIds.add(taskService.createTask(Task.builder().title("Routed write").build()).getId());
+        assertThat(routed("primary")).isGreaterThan(primary);
+    }
+
+    @Test
+    void pinsAClientToThePrimaryAfterItWrites() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        bindRequest(new MockHttpServletRequest(), response);
+        createdIds.add(taskService.createTask(Task.builder().title("Read your writes").build()).getId());
+
+        double replicas = routed("replica-0") + routed("replica-1");
+        taskService.getAllTasks(PageRequest.of(0, 5));
+        assertThat(routed("replica-0") + routed("replica-1")).isEqualTo(replicas);
+
+        Cookie cookie = response.getCookie(ReadYourWrites.COOKIE_NAME);
+        assertThat(cookie).isNotNull();
+        MockHttpServletRequest followUp = new MockHttpServletRequest();
+        followUp.setCookies(cookie);
+        bindRequest(followUp, new MockHttpServletResponse());
+        taskService.getAllTasks(PageRequest.of(0, 5));
+        assertThat(routed("replica-0") + routed("replica-1")).isEqualTo(replicas);
+
+        bindRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+        taskService.getAllTasks(PageRequest.of(0, 5));
+        assertThat(routed("replica-0") + routed("replica-1")).isEqualTo(replicas + 1);
+    }
+
+    @Test
+    void fillsTheTaskCacheFromThePrimary() {
+        Long id = taskService.createTask(Task.builder().title("Cached from the primary").build()).getId();
+        createdIds.add(id);
+        // A client that has not written, which replicas would otherwise serve
+        bindRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+
+        double primary = routed("primary");
+        double replicas = routed("replica-0") + routed("replica-1");
+        taskService.getTaskById(id);
+        assertThat(routed("primary")).isEqualTo(primary + 1);
+        assertThat(routed("replica-0") + routed("replica-1")).isEqualTo(replicas);
+    }
+
+    @Test
+    void sendsCoalescedReadsToReplicas() {
+        // A change starts a new coalescing generation, so the next read reaches the database
+        createdIds.add(taskService.createTask(Task.builder().title("Coalesced read").build()).getId());
+
+        double replicas = routed("replica-0") + routed("replica-1");
+        bindRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+        taskService.getHighPriorityPendingTasks();
+        assertThat(routed("replica-0") + routed("replica-1")).isEqualTo(replicas + 1);
+    }
+
+    @Test
+    void rebuildsAndReconcilesFromThePrimary() {
+        bindRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+        double replicas = routed("replica-0") + routed("replica-1");
+
+        searchIndex.rebuild();
+        dueDateIndex.rebuild();
+        statisticsAggregator.reconcile();
+        assertThat(routed("replica-0") + routed("replica-1")).isEqualTo(replicas);
+    }
+
+    @Test
+    void fallsBackToThePrimaryWhileReplicasLagBehind() {
+        new ReplicaLagMonitor(routingDataSource, "SELECT 3600", Duration.ofSeconds(5)).checkLag();
+        assertThat(routingDataSource.getReplicas()).noneMatch(Replica::isAvailable);
+
+        double replicas = routed("replica-0") + routed("replica-1");
+        taskService.getAllTasks(PageRequest.of(0, 5));
+        assertThat(routed("replica-0") + routed("replica-1")).isEqualTo(replicas);
+
+        lagMonitor.checkLag();
+        assertThat(routingDataSource.getReplicas()).allMatch(Replica::isAvailable);
+    }
+
+    private double routed(String target) {
+        return meterRegistry.counter("task.datasource.routed", "target", target).count();
+    }
+
+    private static void bindRequest(MockHttpServletRequest request, MockHttpServletResponse response) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+    }
+}
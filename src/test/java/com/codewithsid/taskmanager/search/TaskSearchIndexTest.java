@@ -0,0 +1,81 @@
+package com.codewithsid.taskmanager.search;
+
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskSearchIndexTest {
+
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskSearchIndex(null);
+        index.index(task(1L, "Write API documentation", "Document every endpoint"));
+        index.index(task(2L, "Fix login bug", "Authentication fails for API clients"));
+        index.index(task(3L, "Plan sprint", "Nothing to see here"));
+    }
+
+    @Test
+    void ranksTitleMatchesAboveDescriptionMatches() {
+        assertThat(ids(index.search("api"))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void requiresEveryTermAndMatchesPrefixes() {
+        assertThat(ids(index.search("API auth"))).containsExactly(2L);
+        assertThat(ids(index.search("docu"))).containsExactly(1L);
+        assertThat(index.search("api sprint")).isEmpty();
+    }
+
+    @Test
+    void reindexingAndRemovalReplacePostings() {
+        index.index(task(3L, "Plan API sprint", null));
+        assertThat(ids(index.search("sprint"))).containsExactly(3L);
+        assertThat(ids(index.search("nothing"))).isEmpty();
+
+        index.remove(1L);
+        assertThat(ids(index.search("api"))).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void rebuildKeepsChangesThatArriveWhileItReadsTheTable() {
+        TaskRepository repository = mock(TaskRepository.class);
+        TaskSearchIndex rebuilt = new TaskSearchIndex(repository);
+        Task stale = task(1L, "Old title", null);
+        when(repository.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+            // Committed after the snapshot read the rows
+            rebuilt.index(task(1L, "Renamed title", null));
+            rebuilt.index(task(4L, "Created meanwhile", null));
+            rebuilt.remove(2L);
+            return new PageImpl<>(List.of(stale, task(2L, "Deleted meanwhile", null)));
+        });
+
+        rebuilt.rebuild();
+
+        assertThat(rebuilt.isReady()).isTrue();
+        assertThat(ids(rebuilt.search("renamed"))).containsExactly(1L);
+        assertThat(rebuilt.search("old")).isEmpty();
+        assertThat(ids(rebuilt.search("meanwhile"))).containsExactly(4L);
+        assertThat(rebuilt.size()).isEqualTo(2);
+    }
+
+    private static List<Long> ids(List<TaskSearchIndex.SearchHit> hits) {
+        return hits.stream().map(TaskSearchIndex.SearchHit::taskId).toList();
+    }
+
+    private static Task task(Long id, String title, String description) {
+        return Task.builder().id(id).title(title).description(description).build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.codewithsid.taskmanager.service;
+
+import com.codewithsid.taskmanager.dto.BatchItemResult;
+import com.codewithsid.taskmanager.dto.TaskFilter;
+import com.codewithsid.taskmanager.dto.TaskView;
+import com.codewithsid.taskmanager.exception.TaskException;
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.specification.TaskSpecification;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ReactiveTaskServiceTest {
+
+    @Autowired
+    private ReactiveTaskService reactiveTaskService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    void filtersMatchTheBlockingApi() {
+        Pageable pageable = PageRequest.of(0, 1000, Sort.by("createdAt").descending().and(Sort.by("id")));
+        List<TaskFilter> filters = List.of(
+                new TaskFilter(),
+                TaskFilter.builder().status(Task.TaskStatus.TODO).build(),
+                TaskFilter.builder().priority(Task.Priority.HIGH).category("DEVELOPMENT").build(),
+                TaskFilter.builder().searchTerm("test").build(),
+                TaskFilter.builder().searchTerm("test tas").includeArchived(true).build(),
+                TaskFilter.builder().title("API").dueAfter(java.time.LocalDate.now()).build());
+
+        for (TaskFilter filter : filters) {
+            List<Long> expected = ids(taskService.filterTasks(filter, pageable).getContent());
+            List<Long> actual = viewIds(reactiveTaskService.filterTasks(filter, pageable).collectList().block());
+
+            assertThat(actual).as("filter %s", filter).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void searchesWithMoreHitsThanOneInListMatchTheBlockingApi() {
+        List<Task> tasks = IntStream.range(0, TaskSpecification.MAX_IN_LIST_SIZE + 50)
+                .mapToObj(i -> Task.builder().title("Zebracrossing survey " + i).build())
+                .toList();
+        List<Long> createdIds = taskService.createTasks(tasks).getItems().stream()
+                .map(BatchItemResult::getId)
+                .toList();
+        try {
+            TaskFilter filter = TaskFilter.builder().searchTerm("zebracross").build();
+            Pageable pageable = PageRequest.of(0, 2000, Sort.by("id"));
+
+            List<Long> expected = ids(taskService.filterTasks(filter, pageable).getContent());
+            List<Long> actual = viewIds(reactiveTaskService.filterTasks(filter, pageable).collectList().block());
+
+            assertThat(expected).containsExactlyElementsOf(createdIds);
+            assertThat(actual).containsExactlyElementsOf(expected);
+        } finally {
+            taskService.bulkDeleteTasks(createdIds);
+        }
+    }
+
+    @Test
+    void dueDateQueriesMatchTheBlockingApi() {
+        assertThat(viewIds(reactiveTaskService.getOverdueTasks().collectList().block()))
+                .containsExactlyInAnyOrderElementsOf(ids(taskService.getOverdueTasks()));
+        assertThat(viewIds(reactiveTaskService.getTasksDueWithin(7).collectList().block()))
+                .containsExactlyInAnyOrderElementsOf(ids(taskService.getTasksDueWithin(7)));
+    }
+
+    @Test
+    void getTaskByIdReadsTheSameRowAsJpa() {
+        Task expected = taskService.getAllTasks(PageRequest.of(0, 1)).getContent().get(0);
+
+        TaskView actual = reactiveTaskService.getTaskById(expected.getId()).block();
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+        assertThatThrownBy(() -> reactiveTaskService.getTaskById(-1L).block())
+                .isInstanceOf(TaskException.class);
+    }
+
+    private static List<Long> ids(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).toList();
+    }
+
+    private static List<Long> viewIds(List<TaskView> tasks) {
+        return tasks.stream().map(TaskView::id).toList();
+    }
+}
@@ -0,0 +1,91 @@
+package com.codewithsid.taskmanager.service;
+
+import com.codewithsid.taskmanager.dto.ImportResult;
+import com.codewithsid.taskmanager.importer.TaskImportFormat;
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.repository.TaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TaskImportServiceTest {
+
+    private static final String CATEGORY = "ImportTest";
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        List<Long> ids = imported().stream().map(Task::getId).toList();
+        if (!ids.isEmpty()) {
+            taskService.bulkDeleteTasks(ids);
+        }
+    }
+
+    @Test
+    void importsNdjsonAndReportsErrorsByLine() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 1; i <= 2500; i++) {
+            body.append("{\"title\":\"Imported ").append(i).append("\",\"category\":\"" + CATEGORY + "\"}\n");
+        }
+        body.append("{\"title\":\"\",\"category\":\"" + CATEGORY + "\"}\n");
+        body.append("\n");
+        body.append("{not json\n");
+
+        ImportResult result = importFrom(TaskImportFormat.NDJSON, body.toString());
+
+        assertThat(result.getRecordsRead()).isEqualTo(2502);
+        assertThat(result.getImportedCount()).isEqualTo(2500);
+        assertThat(result.getFailedCount()).isEqualTo(2);
+        assertThat(result.getChunksCommitted()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(ImportResult.LineError::getLine).containsExactly(2501L, 2503L);
+        assertThat(result.getErrors().get(0).getErrors()).containsKey("title");
+        assertThat(imported()).hasSize(2500);
+    }
+
+    @Test
+    void importsCsvWithQuotedMultiLineFields() throws Exception {
+        String body = "id,title,description,priority,category,dueDate\r\n"
+                + "7,\"Plan, \"\"Q3\"\"\",\"first line\nsecond line\",HIGH," + CATEGORY + ",2999-01-01\r\n"
+                + ",Bad priority,,SOMETIMES," + CATEGORY + ",\r\n"
+                + ",Too few fields\r\n"
+                + ",Plain,,LOW," + CATEGORY + ",\r\n";
+
+        ImportResult result = importFrom(TaskImportFormat.CSV, body);
+
+        assertThat(result.getImportedCount()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(ImportResult.LineError::getLine).containsExactly(4L, 5L);
+        Task quoted = imported().stream().filter(task -> task.getPriority() == Task.Priority.HIGH).findFirst().orElseThrow();
+        assertThat(quoted.getId()).isNotEqualTo(7L);
+        assertThat(quoted.getTitle()).isEqualTo("Plan, \"Q3\"");
+        assertThat(quoted.getDescription()).isEqualTo("first line\nsecond line");
+    }
+
+    private ImportResult importFrom(TaskImportFormat format, String body) throws Exception {
+        BufferedReader reader = new BufferedReader(new StringReader(body));
+        return taskImportService.importTasks(format.newReader(reader, objectMapper));
+    }
+
+    private List<Task> imported() {
+        return taskRepository.findByCategory(CATEGORY);
+    }
+}
@@ -0,0 +1,126 @@
+package com.codewithsid.taskmanager.service;
+
+import com.codewithsid.taskmanager.dto.TaskFilter;
+import com.codewithsid.taskmanager.exception.TaskException;
+import com.codewithsid.taskmanager.model.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that archiving moves old finished tasks out of active-work queries and
+ * statistics while lookups by id and includeArchived filters still reach them.
+ */
+@SpringBootTest
+class TaskServiceArchiveTest {
+
+    private static final LocalDateTime LONG_AGO = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> createdIds = new ArrayList<>();
+    private Long oldCompleted;
+    private Long recentCompleted;
+    private Long oldOpen;
+
+    @BeforeEach
+    void setUp() {
+        oldCompleted = create("Archive candidate done", Task.TaskStatus.COMPLETED);
+        recentCompleted = create("Archive candidate fresh", Task.TaskStatus.COMPLETED);
+        oldOpen = create("Archive candidate open", Task.TaskStatus.IN_PROGRESS);
+        jdbcTemplate.update("UPDATE tasks SET updated_at = ? WHERE id IN (?, ?)", LONG_AGO, oldCompleted, oldOpen);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Bulk deletion only sees active tasks; archived ones are removed directly
+        taskService.bulkDeleteTasks(createdIds);
+        createdIds.forEach(id -> jdbcTemplate.update("DELETE FROM tasks WHERE id = ?", id));
+    }
+
+    @Test
+    void archivesOnlyOldFinishedTasksAndHidesThemFromActiveQueries() {
+        long totalBefore = total();
+
+        int archived = taskService.archiveTasks(LONG_AGO.plusYears(1), 100);
+
+        assertThat(archived).isEqualTo(1);
+        assertThat(total()).isEqualTo(totalBefore - 1);
+        assertThat(taskService.getTasksByStatus(Task.TaskStatus.COMPLETED))
+                .extracting(Task::getId)
+                .contains(recentCompleted)
+                .doesNotContain(oldCompleted);
+        assertThat(filter(TaskFilter.builder().title("Archive candidate").build()))
+                .containsExactlyInAnyOrder(recentCompleted, oldOpen);
+        assertThat(taskService.archiveTasks(LONG_AGO.plusYears(1), 100)).isZero();
+    }
+
+    @Test
+    void archivedTasksStayReadableButNotModifiable() {
+        taskService.archiveTasks(LONG_AGO.plusYears(1), 100);
+
+        assertThat(taskService.getTaskById(oldCompleted).isArchived()).isTrue();
+        assertThat(filter(TaskFilter.builder().title("Archive candidate").includeArchived(true).build()))
+                .containsExactlyInAnyOrder(oldCompleted, recentCompleted, oldOpen);
+        assertThat(filter(TaskFilter.builder().searchTerm("done").includeArchived(true).build()))
+                .contains(oldCompleted);
+        assertThatThrownBy(() -> taskService.patchTask(oldCompleted, Map.of("title", "Revived")))
+                .isInstanceOfSatisfying(TaskException.class,
+                        ex -> assertThat(ex.getStatus()).isEqualTo(HttpStatus.CONFLICT));
+
+        // The filter is re-enabled once an includeArchived query is done
+        assertThat(filter(TaskFilter.builder().title("Archive candidate").build()))
+                .doesNotContain(oldCompleted);
+    }
+
+    @Test
+    void archivedSearchesMatchWordPrefixesLikeTheIndex() {
+        taskService.archiveTasks(LONG_AGO.plusYears(1), 100);
+
+        assertThat(filter(TaskFilter.builder().searchTerm("DONE cand").includeArchived(true).build()))
+                .containsExactly(oldCompleted);
+        assertThat(filter(TaskFilter.builder().searchTerm("andidate").includeArchived(true).build()))
+                .doesNotContain(oldCompleted, recentCompleted, oldOpen);
+        assertThat(filter(TaskFilter.builder().searchTerm("--").includeArchived(true).build()))
+                .isEmpty();
+        for (String term : List.of("archive candidate", "cand fre", "open")) {
+            assertThat(filter(TaskFilter.builder().searchTerm(term).includeArchived(true).build()))
+                    .as(term)
+                    .filteredOn(id -> !id.equals(oldCompleted))
+                    .containsExactlyInAnyOrderElementsOf(filter(TaskFilter.builder().searchTerm(term).build()));
+        }
+    }
+
+    private Long create(String title, Task.TaskStatus status) {
+        Long id = taskService.createTask(Task.builder().title(title).status(status).build()).getId();
+        createdIds.add(id);
+        return id;
+    }
+
+    private List<Long> filter(TaskFilter filter) {
+        return taskService.filterTasks(filter, PageRequest.of(0, 100)).map(Task::getId).getContent();
+    }
+
+    @SuppressWarnings("unchecked")
+    private long total() {
+        Map<String, Object> overall = (Map<String, Object>) taskService.getTaskStatistics().get("overall");
+        return (Long) overall.get("total");
+    }
+}
@@ -0,0 +1,90 @@
+package com.codewithsid.taskmanager.service;
+
+import com.codewithsid.taskmanager.dto.BatchItemResult;
+import com.codewithsid.taskmanager.dto.BatchResult;
+import com.codewithsid.taskmanager.exception.TaskException;
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that batch creation reports per-item outcomes and inserts in JDBC batches
+ * rather than issuing one INSERT per task.
+ */
+@SpringBootTest
+class TaskServiceBatchCreateTest {
+
+    private static final int TASK_COUNT = 1000;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (!createdIds.isEmpty()) {
+            taskService.bulkDeleteTasks(createdIds);
+        }
+    }
+
+    @Test
+    void createsValidTasksInJdbcBatchesAndReportsInvalidOnes() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            tasks.add(Task.builder().title("Batch task " + i).build());
+        }
+        tasks.set(10, Task.builder().title("").build());
+        tasks.set(20, Task.builder().title("Bad hours").estimatedHours(-1).build());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean statisticsWereEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        BatchResult result;
+        long statements;
+        try {
+            result = taskService.createTasks(tasks);
+            statements = statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(statisticsWereEnabled);
+        }
+        result.getItems().stream().map(BatchItemResult::getId).filter(Objects::nonNull).forEach(createdIds::add);
+
+        assertThat(result.getRequestedCount()).isEqualTo(TASK_COUNT);
+        assertThat(result.getSucceededCount()).isEqualTo(TASK_COUNT - 2);
+        assertThat(result.getItems().get(10).getOutcome()).isEqualTo(BatchItemResult.Outcome.INVALID);
+        assertThat(result.getItems().get(10).getErrors()).containsKey("title");
+        assertThat(result.getItems().get(20).getOutcome()).isEqualTo(BatchItemResult.Outcome.INVALID);
+        assertThat(taskRepository.findAllById(createdIds)).hasSize(TASK_COUNT - 2);
+
+        assertThat(statements).isLessThan(TASK_COUNT / 10);
+    }
+
+    @Test
+    void rejectsEmptyAndOversizedBatches() {
+        assertThatThrownBy(() -> taskService.createTasks(List.of())).isInstanceOf(TaskException.class);
+        List<Task> tooMany = Collections.nCopies(10_001, Task.builder().title("x").build());
+        assertThatThrownBy(() -> taskService.createTasks(tooMany)).isInstanceOf(TaskException.class);
+    }
+}
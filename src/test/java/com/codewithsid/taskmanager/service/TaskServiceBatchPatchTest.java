@@ -0,0 +1,132 @@
+package com.codewithsid.taskmanager.service;
+
+import com.codewithsid.taskmanager.dto.BatchItemResult;
+import com.codewithsid.taskmanager.dto.BatchResult;
+import com.codewithsid.taskmanager.dto.TaskPatchRequest;
+import com.codewithsid.taskmanager.exception.TaskException;
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that batch patching type-checks every item up front, reports per-item outcomes
+ * and updates in JDBC batches rather than loading and saving tasks one by one.
+ */
+@SpringBootTest
+class TaskServiceBatchPatchTest {
+
+    private static final int TASK_COUNT = 200;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (!createdIds.isEmpty()) {
+            taskService.bulkDeleteTasks(createdIds);
+        }
+    }
+
+    @Test
+    void patchesTasksInJdbcBatchesAndReportsEachItem() {
+        for (int i = 0; i < TASK_COUNT; i++) {
+            createdIds.add(taskService.createTask(Task.builder().title("Grid task " + i).build()).getId());
+        }
+        List<TaskPatchRequest> patches = new ArrayList<>();
+        for (Long id : createdIds) {
+            patches.add(patch(id, null, Map.of("priority", "HIGH", "estimatedHours", 3)));
+        }
+        patches.set(1, patch(createdIds.get(1), null, Map.of("estimatedHours", "three")));
+        patches.set(2, patch(createdIds.get(2), null, Map.of("title", "")));
+        patches.set(3, patch(createdIds.get(3), 7L, Map.of("status", "COMPLETED")));
+        patches.add(patch(Long.MAX_VALUE, null, Map.of("title", "Missing")));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean statisticsWereEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        BatchResult result;
+        long statements;
+        try {
+            result = taskService.patchTasks(patches);
+            statements = statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(statisticsWereEnabled);
+        }
+
+        assertThat(result.getSucceededCount()).isEqualTo(TASK_COUNT - 3);
+        assertThat(outcome(result, 0)).isEqualTo(BatchItemResult.Outcome.UPDATED);
+        assertThat(outcome(result, 1)).isEqualTo(BatchItemResult.Outcome.INVALID);
+        assertThat(result.getItems().get(1).getErrors()).containsKey("estimatedHours");
+        assertThat(outcome(result, 2)).isEqualTo(BatchItemResult.Outcome.INVALID);
+        assertThat(outcome(result, 3)).isEqualTo(BatchItemResult.Outcome.CONFLICT);
+        assertThat(outcome(result, TASK_COUNT)).isEqualTo(BatchItemResult.Outcome.NOT_FOUND);
+
+        Task patched = taskRepository.findById(createdIds.get(0)).orElseThrow();
+        assertThat(patched.getPriority()).isEqualTo(Task.Priority.HIGH);
+        assertThat(patched.getEstimatedHours()).isEqualTo(3);
+        assertThat(taskRepository.findById(createdIds.get(2)).orElseThrow().getTitle()).isEqualTo("Grid task 2");
+
+        assertThat(statements).isLessThan(TASK_COUNT / 10);
+    }
+
+    @Test
+    void rejectsBadFieldTypesOnSinglePatchesBeforeLoadingTheTask() {
+        assertThatThrownBy(() -> taskService.patchTask(Long.MAX_VALUE, Map.of("estimatedHours", "ten")))
+                .isInstanceOf(TaskException.class)
+                .hasMessageContaining("estimatedHours");
+        assertThatThrownBy(() -> taskService.patchTask(Long.MAX_VALUE, Map.of("priority", "SOMEDAY")))
+                .isInstanceOf(TaskException.class)
+                .hasMessageContaining("priority");
+    }
+
+    @Test
+    void singlePatchesIgnoreUnknownAndReadOnlyFields() {
+        Task task = taskService.createTask(Task.builder().title("Echoed task").build());
+        createdIds.add(task.getId());
+
+        Task patched = taskService.patchTask(task.getId(),
+                Map.of("id", 1, "version", 0, "createdAt", "2020-01-01T00:00:00", "title", "Echoed back"));
+        assertThat(patched.getId()).isEqualTo(task.getId());
+        assertThat(patched.getTitle()).isEqualTo("Echoed back");
+        assertThat(taskService.patchTask(task.getId(), Map.of()).getTitle()).isEqualTo("Echoed back");
+
+        BatchResult batch = taskService.patchTasks(List.of(patch(task.getId(), null, Map.of("createdAt", "x"))));
+        assertThat(outcome(batch, 0)).isEqualTo(BatchItemResult.Outcome.INVALID);
+        assertThat(batch.getItems().get(0).getErrors()).containsKey("createdAt");
+    }
+
+    @Test
+    void rejectsEmptyBatches() {
+        assertThatThrownBy(() -> taskService.patchTasks(List.of())).isInstanceOf(TaskException.class);
+    }
+
+    private static TaskPatchRequest patch(Long id, Long version, Map<String, Object> changes) {
+        return TaskPatchRequest.builder().id(id).version(version).changes(changes).build();
+    }
+
+    private static BatchItemResult.Outcome outcome(BatchResult result, int index) {
+        return result.getItems().get(index).getOutcome();
+    }
+}
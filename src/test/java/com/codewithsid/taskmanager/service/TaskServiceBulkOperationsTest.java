@@ -0,0 +1,99 @@
+package com.codewithsid.taskmanager.service;
+
+import com.codewithsid.taskmanager.dto.BulkOperationResult;
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the JDBC statements issued by the bulk operations. The previous row-by-row
+ * implementation needed two round trips per id (a lookup plus an UPDATE or DELETE).
+ */
+@SpringBootTest
+class TaskServiceBulkOperationsTest {
+
+    private static final int TASK_COUNT = 2500;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${task.bulk.chunk-size}")
+    private int chunkSize;
+
+    private Statistics statistics;
+    private boolean statisticsWereEnabled;
+    private final List<Long> taskIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < TASK_COUNT; i++) {
+            taskIds.add(taskService.createTask(Task.builder().title("Bulk task " + i).build()).getId());
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statisticsWereEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(statisticsWereEnabled);
+        if (!taskRepository.findAllById(taskIds).isEmpty()) {
+            taskService.bulkDeleteTasks(taskIds);
+        }
+    }
+
+    @Test
+    void bulkStatusUpdateUsesTwoStatementsPerChunk() {
+        List<Long> requested = new ArrayList<>(taskIds);
+        requested.add(-1L);
+
+        BulkOperationResult result = taskService.bulkUpdateStatus(requested, Task.TaskStatus.COMPLETED);
+
+        assertThat(result.getAffectedIds()).containsExactlyElementsOf(taskIds);
+        assertThat(result.getMissingIds()).containsExactly(-1L);
+        assertRoundTrips("bulkUpdateStatus");
+        assertThat(taskRepository.findAllById(taskIds))
+                .allSatisfy(task -> {
+                    assertThat(task.getStatus()).isEqualTo(Task.TaskStatus.COMPLETED);
+                    assertThat(task.getCompletionDate()).isNotNull();
+                });
+
+        taskService.bulkUpdateStatus(taskIds, Task.TaskStatus.TODO);
+        assertThat(taskRepository.findAllById(taskIds)).allSatisfy(task -> assertThat(task.getCompletionDate()).isNull());
+    }
+
+    @Test
+    void bulkDeleteUsesTwoStatementsPerChunk() {
+        BulkOperationResult result = taskService.bulkDeleteTasks(taskIds);
+
+        assertThat(result.getAffectedCount()).isEqualTo(TASK_COUNT);
+        assertThat(result.getMissingIds()).isEmpty();
+        assertRoundTrips("bulkDeleteTasks");
+        assertThat(taskRepository.findAllById(taskIds)).isEmpty();
+    }
+
+    private void assertRoundTrips(String operation) {
+        long chunks = (TASK_COUNT + chunkSize - 1) / chunkSize;
+        assertThat(statistics.getPrepareStatementCount()).as(operation).isLessThanOrEqualTo(2 * chunks);
+    }
+}
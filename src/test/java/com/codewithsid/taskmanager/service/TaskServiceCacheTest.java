@@ -0,0 +1,103 @@
+package com.codewithsid.taskmanager.service;
+
+import com.codewithsid.taskmanager.cache.TaskCacheInvalidator;
+import com.codewithsid.taskmanager.exception.TaskException;
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class TaskServiceCacheTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TaskCacheInvalidator taskCache;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void repeatedReadsAreServedFromCache() {
+        Long id = taskService.createTask(Task.builder().title("Cached task").build()).getId();
+        try {
+            taskService.getTaskById(id);
+
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+            try {
+                for (int i = 0; i < 10; i++) {
+                    assertThat(taskService.getTaskById(id).getTitle()).isEqualTo("Cached task");
+                }
+                assertThat(statistics.getPrepareStatementCount()).isZero();
+            } finally {
+                statistics.setStatisticsEnabled(false);
+            }
+            assertThat(meterRegistry.get("cache.gets").tag("cache", "tasks").tag("result", "hit")
+                    .functionCounter().count()).isGreaterThanOrEqualTo(10);
+        } finally {
+            taskService.deleteTask(id);
+        }
+    }
+
+    @Test
+    void everyMutationPathInvalidatesTheCachedTask() {
+        Long id = taskService.createTask(Task.builder().title("Original").build()).getId();
+        taskService.getTaskById(id);
+
+        taskService.updateTask(id, Task.builder().title("Updated").build());
+        assertThat(taskService.getTaskById(id).getTitle()).isEqualTo("Updated");
+
+        taskService.patchTask(id, Map.of("title", "Patched"));
+        assertThat(taskService.getTaskById(id).getTitle()).isEqualTo("Patched");
+
+        taskService.startTask(id);
+        assertThat(taskService.getTaskById(id).getStatus()).isEqualTo(Task.TaskStatus.IN_PROGRESS);
+
+        taskService.completeTask(id);
+        assertThat(taskService.getTaskById(id).getStatus()).isEqualTo(Task.TaskStatus.COMPLETED);
+
+        taskService.bulkUpdateStatus(List.of(id), Task.TaskStatus.TODO);
+        assertThat(taskService.getTaskById(id).getStatus()).isEqualTo(Task.TaskStatus.TODO);
+
+        taskService.bulkDeleteTasks(List.of(id));
+        assertThatThrownBy(() -> taskService.getTaskById(id)).isInstanceOf(TaskException.class);
+    }
+
+    @Test
+    void aLoadThatACommitOvertakesIsNotCached() {
+        Long id = taskService.createTask(Task.builder().title("Before").build()).getId();
+        try {
+            Task loaded = taskCache.get(id, () -> {
+                Task old = taskRepository.findById(id).orElseThrow();
+                taskService.updateTask(id, Task.builder().title("After").build());
+                return old;
+            });
+
+            assertThat(loaded.getTitle()).isEqualTo("Before");
+            assertThat(taskService.getTaskById(id).getTitle()).isEqualTo("After");
+        } finally {
+            taskService.deleteTask(id);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.codewithsid.taskmanager.service;
+
+import com.codewithsid.taskmanager.dto.CursorPage;
+import com.codewithsid.taskmanager.dto.TaskFilter;
+import com.codewithsid.taskmanager.exception.TaskException;
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class TaskServiceCursorPaginationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void cursorPagesVisitEveryTaskOnceInOffsetOrder() {
+        for (String sortBy : List.of("createdAt", "updatedAt", "priority")) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                List<Long> expected = taskRepository
+                        .findAll(PageRequest.of(0, 1000, Sort.by(direction, sortBy).and(Sort.by(direction, "id"))))
+                        .map(Task::getId)
+                        .getContent();
+
+                assertThat(scrollAll(new TaskFilter(), sortBy, direction)).containsExactlyElementsOf(expected);
+            }
+        }
+    }
+
+    @Test
+    void cursorPagesHandleNullDueDates() {
+        long total = taskRepository.count();
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            List<Long> ids = scrollAll(new TaskFilter(), "dueDate", direction);
+            assertThat(ids).doesNotHaveDuplicates().hasSize((int) total);
+        }
+    }
+
+    @Test
+    void cursorPagesApplyFilters() {
+        TaskFilter filter = TaskFilter.builder().status(Task.TaskStatus.TODO).build();
+        List<Long> expected = taskRepository.findByStatus(Task.TaskStatus.TODO).stream()
+                .map(Task::getId)
+                .sorted()
+                .collect(Collectors.toList());
+
+        assertThat(scrollAll(filter, "createdAt", Sort.Direction.ASC)).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    void rejectsCursorIssuedForAnotherSortOrder() {
+        CursorPage<Task> first = taskService.scrollTasks(new TaskFilter(), "createdAt", Sort.Direction.DESC, null, 2);
+
+        assertThatThrownBy(() -> taskService.scrollTasks(new TaskFilter(), "priority", Sort.Direction.DESC,
+                first.getNextCursor(), 2))
+                .isInstanceOf(TaskException.class);
+        assertThatThrownBy(() -> taskService.scrollTasks(new TaskFilter(), "title", Sort.Direction.DESC, null, 2))
+                .isInstanceOf(TaskException.class);
+    }
+
+    private List<Long> scrollAll(TaskFilter filter, String sortBy, Sort.Direction direction) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<Task> page = taskService.scrollTasks(filter, sortBy, direction, cursor, 4);
+            page.getContent().forEach(task -> ids.add(task.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+}
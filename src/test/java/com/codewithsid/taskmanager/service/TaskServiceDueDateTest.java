@@ -0,0 +1,71 @@
+package com.codewithsid.taskmanager.service;
+
+import com.codewithsid.taskmanager.duedate.TaskDueDateIndex;
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TaskServiceDueDateTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskDueDateIndex dueDateIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void indexedQueriesMatchTheDatabaseAcrossChanges() {
+        assertThat(dueDateIndex.isReady()).isTrue();
+        LocalDate today = LocalDate.now();
+
+        Task dueToday = taskService.createTask(probe("Due today probe", today.plusDays(1)));
+        Task dueSoon = taskService.createTask(probe("Due soon probe", today.plusDays(3)));
+        // @Future rejects past due dates through the service, so backdate one row directly
+        jdbcTemplate.update("UPDATE tasks SET due_date = ? WHERE id = ?", today, dueToday.getId());
+        dueDateIndex.update(taskRepository.findById(dueToday.getId()).orElseThrow());
+        taskService.patchTask(dueSoon.getId(), Map.of("dueDate", today.plusDays(5).toString()));
+        assertMatchesDatabase(today);
+
+        taskService.completeTask(dueSoon.getId());
+        taskService.bulkUpdateStatus(List.of(dueToday.getId()), Task.TaskStatus.CANCELLED);
+        assertMatchesDatabase(today);
+        assertThat(ids(taskService.getTasksDueToday())).doesNotContain(dueToday.getId());
+
+        taskService.deleteTask(dueToday.getId());
+        taskService.deleteTask(dueSoon.getId());
+        assertMatchesDatabase(today);
+    }
+
+    private void assertMatchesDatabase(LocalDate today) {
+        assertThat(ids(taskService.getOverdueTasks()))
+                .containsExactlyInAnyOrderElementsOf(ids(taskRepository.findOverdueTasks(today)));
+        assertThat(ids(taskService.getTasksDueToday()))
+                .containsExactlyInAnyOrderElementsOf(ids(taskRepository.findTasksDueToday(today)));
+        assertThat(ids(taskService.getTasksDueWithin(7)))
+                .containsExactlyInAnyOrderElementsOf(ids(taskRepository.findTasksDueWithinDays(today, today.plusDays(7))));
+    }
+
+    private static Task probe(String title, LocalDate dueDate) {
+        return Task.builder().title(title).category("Probe").dueDate(dueDate).build();
+    }
+
+    private static List<Long> ids(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).toList();
+    }
+}
@@ -0,0 +1,80 @@
+package com.codewithsid.taskmanager.service;
+
+import com.codewithsid.taskmanager.dto.TaskFilter;
+import com.codewithsid.taskmanager.export.TaskExportFormat;
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.repository.TaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TaskServiceExportTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void ndjsonExportWritesOneTaskPerLineInIdOrder() throws Exception {
+        StringWriter out = new StringWriter();
+        long count = taskService.exportTasks(new TaskFilter(), TaskExportFormat.NDJSON.newWriter(out, objectMapper));
+
+        List<String> lines = out.toString().lines().toList();
+        assertThat(count).isEqualTo(taskRepository.count());
+        assertThat(lines).hasSize((int) count);
+        List<Long> ids = lines.stream().map(line -> read(line).getId()).toList();
+        assertThat(ids).isSorted();
+    }
+
+    @Test
+    void csvExportAppliesFilterAndQuotesFields() throws Exception {
+        Task task = taskService.createTask(Task.builder()
+                .title("Export, \"quoted\"")
+                .description("line one\nline two")
+                .category("ExportTest")
+                .build());
+        try {
+            StringWriter out = new StringWriter();
+            TaskFilter filter = TaskFilter.builder().category("ExportTest").build();
+            long count = taskService.exportTasks(filter, TaskExportFormat.CSV.newWriter(out, objectMapper));
+
+            assertThat(count).isEqualTo(1);
+            String[] rows = out.toString().split("\r\n");
+            assertThat(rows).hasSize(2);
+            assertThat(rows[0]).startsWith("id,title,description,status");
+            assertThat(rows[1]).startsWith(task.getId() + ",\"Export, \"\"quoted\"\"\",\"line one\nline two\",TODO");
+        } finally {
+            taskService.deleteTask(task.getId());
+        }
+    }
+
+    @Test
+    void csvExportOfNothingWritesOnlyTheHeader() throws Exception {
+        StringWriter out = new StringWriter();
+        TaskFilter filter = TaskFilter.builder().category("no-such-category").build();
+        taskService.exportTasks(filter, TaskExportFormat.CSV.newWriter(out, objectMapper));
+
+        assertThat(Arrays.asList(out.toString().split("\r\n"))).hasSize(1);
+    }
+
+    private Task read(String line) {
+        try {
+            return objectMapper.readValue(line, Task.class);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
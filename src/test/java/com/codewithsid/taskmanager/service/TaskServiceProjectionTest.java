@@ -0,0 +1,60 @@
+package com.codewithsid.taskmanager.service;
+
+import com.codewithsid.taskmanager.dto.TaskFilter;
+import com.codewithsid.taskmanager.dto.TaskSummary;
+import com.codewithsid.taskmanager.exception.TaskException;
+import com.codewithsid.taskmanager.model.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class TaskServiceProjectionTest {
+
+    private static final Pageable PAGE = PageRequest.of(0, 5, Sort.by("priority").descending().and(Sort.by("id")));
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    void summariesMatchTheFullEntities() {
+        TaskFilter filter = TaskFilter.builder().status(Task.TaskStatus.TODO).build();
+        Page<Task> tasks = taskService.filterTasks(filter, PAGE);
+        Page<TaskSummary> summaries = taskService.filterTaskSummaries(filter, PAGE);
+
+        assertThat(summaries.getTotalElements()).isEqualTo(tasks.getTotalElements());
+        assertThat(summaries.getContent()).containsExactlyElementsOf(tasks.map(task -> new TaskSummary(
+                task.getId(), task.getTitle(), task.getStatus(), task.getPriority(), task.getDueDate())).getContent());
+    }
+
+    @Test
+    void sparseFieldsetContainsOnlyTheRequestedFields() {
+        Page<Task> tasks = taskService.filterTasks(new TaskFilter(), PAGE);
+        Page<Map<String, Object>> rows = taskService.filterTaskFields(new TaskFilter(), "title, priority", PAGE);
+
+        assertThat(rows.getTotalElements()).isEqualTo(tasks.getTotalElements());
+        for (int i = 0; i < rows.getNumberOfElements(); i++) {
+            Task task = tasks.getContent().get(i);
+            assertThat(rows.getContent().get(i)).containsExactly(
+                    Map.entry("id", task.getId()),
+                    Map.entry("title", task.getTitle()),
+                    Map.entry("priority", task.getPriority()));
+        }
+    }
+
+    @Test
+    void rejectsUnknownFields() {
+        assertThatThrownBy(() -> taskService.filterTaskFields(new TaskFilter(), "title,secret", PAGE))
+                .isInstanceOf(TaskException.class)
+                .hasMessageContaining("secret");
+    }
+}
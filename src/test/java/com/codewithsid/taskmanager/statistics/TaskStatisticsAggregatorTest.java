@@ -0,0 +1,88 @@
+package com.codewithsid.taskmanager.statistics;
+
+import com.codewithsid.taskmanager.event.TaskChangedEvent;
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.repository.TaskRepository;
+import com.codewithsid.taskmanager.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class TaskStatisticsAggregatorTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskStatisticsAggregator aggregator;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void incrementalCountersMatchAFreshReconcile() {
+        Map<String, Long> before = (Map<String, Long>) aggregator.snapshot().get("overall");
+        Task created = taskService.createTask(Task.builder()
+                .title("Statistics probe")
+                .category("Probe")
+                .assignedTo("probe@company.com")
+                .priority(Task.Priority.URGENT)
+                .dueDate(LocalDate.now().plusDays(1))
+                .build());
+        Task second = taskService.createTask(Task.builder()
+                .title("Second probe")
+                .category("Probe")
+                .dueDate(LocalDate.now().plusDays(2))
+                .build());
+
+        taskService.patchTask(created.getId(), Map.of("dueDate", LocalDate.now().plusDays(3).toString(),
+                "category", "Other"));
+        taskService.completeTask(created.getId());
+        taskService.bulkUpdateStatus(List.of(second.getId()), Task.TaskStatus.CANCELLED);
+
+        Map<String, Object> incremental = aggregator.snapshot();
+        Map<String, Long> overall = (Map<String, Long>) incremental.get("overall");
+        assertThat((Map<String, Long>) incremental.get("categoryCounts")).containsEntry("Other", 1L);
+        assertThat((Map<String, Long>) incremental.get("statusCounts")).containsEntry("CANCELLED", 1L);
+        assertThat(overall.get("overdue")).isEqualTo(before.get("overdue"));
+        assertThat(overall.get("total")).isEqualTo(before.get("total") + 2);
+
+        aggregator.reconcile();
+        assertThat(aggregator.snapshot()).isEqualTo(incremental);
+
+        taskService.deleteTask(created.getId());
+        taskService.deleteTask(second.getId());
+        Map<String, Long> afterDelete = (Map<String, Long>) aggregator.snapshot().get("overall");
+        assertThat(afterDelete.get("total")).isEqualTo(before.get("total"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcileOverlappingAChangeDoesNotReplaceTheCounters() {
+        TaskRepository repository = mock(TaskRepository.class);
+        TaskStatisticsAggregator isolated = new TaskStatisticsAggregator(repository);
+        isolated.reconcile();
+        Task created = Task.builder().id(1L).title("Committed during reconcile")
+                .status(Task.TaskStatus.TODO).priority(Task.Priority.LOW).build();
+        // The change commits after the first status query ran, so only later queries see it
+        List<Object[]> statusRows = List.<Object[]>of(new Object[] {Task.TaskStatus.TODO, 1L});
+        when(repository.getTaskCountByStatus()).thenAnswer(invocation -> {
+            isolated.onTaskChanged(TaskChangedEvent.created(created));
+            return List.of();
+        }).thenReturn(statusRows);
+        when(repository.count()).thenReturn(1L);
+
+        isolated.reconcile();
+
+        Map<String, Object> statistics = isolated.snapshot();
+        assertThat((Map<String, Long>) statistics.get("statusCounts")).containsEntry("TODO", 1L);
+        assertThat(((Map<String, Long>) statistics.get("overall")).get("total")).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,201 @@
+package com.codewithsid.taskmanager.workload;
+
+import com.codewithsid.taskmanager.dto.AssigneeWorkload;
+import com.codewithsid.taskmanager.model.Task;
+import com.codewithsid.taskmanager.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that the workload rollup follows every kind of task change and agrees with a
+ * rebuild from the tasks table.
+ */
+@SpringBootTest
+class TaskWorkloadRollupTest {
+
+    private static final String ASSIGNEE = "workload.tester@example.com";
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskWorkloadRollup workloadRollup;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> createdIds = Collections.synchronizedList(new ArrayList<>());
+
+    @AfterEach
+    void tearDown() {
+        if (!createdIds.isEmpty()) {
+            taskService.bulkDeleteTasks(createdIds);
+        }
+    }
+
+    @Test
+    void followsCreatesUpdatesBulkOperationsAndDeletes() {
+        Long first = create(Task.TaskStatus.TODO, Task.Priority.HIGH, 5);
+        Long second = create(Task.TaskStatus.IN_PROGRESS, Task.Priority.LOW, 3);
+        create(Task.TaskStatus.COMPLETED, Task.Priority.LOW, 8);
+
+        AssigneeWorkload workload = taskService.getWorkload(ASSIGNEE);
+        assertThat(workload.getAssignedTo()).isEqualTo(ASSIGNEE);
+        assertThat(workload.getOpenTasks()).isEqualTo(2);
+        assertThat(workload.getEstimatedHours()).isEqualTo(8);
+        assertThat(workload.getStatusCounts()).isEqualTo(Map.of("TODO", 1L, "IN_PROGRESS", 1L));
+        assertThat(workload.getPriorityCounts()).isEqualTo(Map.of("HIGH", 1L, "LOW", 1L));
+
+        taskService.patchTask(second, Map.of("estimatedHours", 10, "priority", "URGENT"));
+        taskService.completeTask(first);
+        workload = taskService.getWorkload(ASSIGNEE);
+        assertThat(workload.getOpenTasks()).isEqualTo(1);
+        assertThat(workload.getEstimatedHours()).isEqualTo(10);
+        assertThat(workload.getPriorityCounts()).isEqualTo(Map.of("URGENT", 1L));
+
+        taskService.bulkUpdateStatus(createdIds, Task.TaskStatus.ON_HOLD);
+        assertThat(taskService.getWorkload(ASSIGNEE).getStatusCounts()).isEqualTo(Map.of("ON_HOLD", 3L));
+        assertThat(taskService.getTeamWorkload())
+                .filteredOn(team -> team.getAssignedTo().equals(ASSIGNEE))
+                .singleElement()
+                .satisfies(team -> assertThat(team.getEstimatedHours()).isEqualTo(23));
+        assertRebuildAgrees();
+
+        taskService.deleteTask(second);
+        createdIds.remove(second);
+        assertThat(taskService.getWorkload(ASSIGNEE).getOpenTasks()).isEqualTo(2);
+        assertRebuildAgrees();
+    }
+
+    @Test
+    void countsOverdueTasksByTheCurrentDate() {
+        Long overdue = create(Task.TaskStatus.TODO, Task.Priority.MEDIUM, 1);
+        create(Task.TaskStatus.TODO, Task.Priority.MEDIUM, 1);
+        // Due dates cannot be set in the past through the API
+        jdbcTemplate.update("UPDATE tasks SET due_date = ? WHERE id = ?", LocalDate.now().minusDays(3), overdue);
+        workloadRollup.rebuild();
+
+        AssigneeWorkload workload = taskService.getWorkload(ASSIGNEE);
+        assertThat(workload.getOpenTasks()).isEqualTo(2);
+        assertThat(workload.getOverdueTasks()).isEqualTo(1);
+    }
+
+    @Test
+    void rebuildWaitsForDeltasThatAreWrittenButNotYetCommitted() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AtomicReference<Future<?>> rebuild = new AtomicReference<>();
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                create(Task.TaskStatus.TODO, Task.Priority.HIGH, 4);
+                // Registered after the rollup's synchronization, so its delta is already written
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void beforeCommit(boolean readOnly) {
+                        rebuild.set(executor.submit(workloadRollup::rebuild));
+                        assertThatThrownBy(() -> rebuild.get().get(500, TimeUnit.MILLISECONDS))
+                                .isInstanceOf(TimeoutException.class);
+                    }
+                });
+            });
+            rebuild.get().get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        AssigneeWorkload workload = taskService.getWorkload(ASSIGNEE);
+        assertThat(workload.getOpenTasks()).isEqualTo(1);
+        assertThat(workload.getEstimatedHours()).isEqualTo(4);
+        assertRebuildAgrees();
+    }
+
+    @Test
+    void staysExactWhileTasksChangeDuringRebuilds() throws Exception {
+        int writers = 4;
+        int tasksPerWriter = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        try {
+            AtomicBoolean writing = new AtomicBoolean(true);
+            Future<?> rebuilds = executor.submit(() -> {
+                while (writing.get()) {
+                    workloadRollup.rebuild();
+                }
+            });
+            List<Future<?>> changes = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                changes.add(executor.submit(() -> {
+                    for (int i = 0; i < tasksPerWriter; i++) {
+                        Long id = create(Task.TaskStatus.TODO, Task.Priority.MEDIUM, 2);
+                        if (i % 2 == 0) {
+                            taskService.completeTask(id);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> change : changes) {
+                change.get(60, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            rebuilds.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        AssigneeWorkload workload = taskService.getWorkload(ASSIGNEE);
+        assertThat(workload.getOpenTasks()).isEqualTo(writers * tasksPerWriter / 2);
+        assertThat(workload.getEstimatedHours()).isEqualTo(writers * tasksPerWriter);
+        assertRebuildAgrees();
+    }
+
+    @Test
+    void unknownAssigneesHaveNoWorkload() {
+        AssigneeWorkload workload = taskService.getWorkload("nobody.here@example.com");
+        assertThat(workload.getOpenTasks()).isZero();
+        assertThat(workload.getStatusCounts()).isEmpty();
+    }
+
+    private void assertRebuildAgrees() {
+        AssigneeWorkload incremental = taskService.getWorkload(ASSIGNEE);
+        workloadRollup.rebuild();
+        assertThat(taskService.getWorkload(ASSIGNEE)).isEqualTo(incremental);
+    }
+
+    private Long create(Task.TaskStatus status, Task.Priority priority, int estimatedHours) {
+        Task task = Task.builder()
+                .title("Workload " + status)
+                .status(status)
+                .priority(priority)
+                .estimatedHours(estimatedHours)
+                .assignedTo(ASSIGNEE)
+                .dueDate(LocalDate.now().plusDays(7))
+                .build();
+        Long id = taskService.createTask(task).getId();
+        createdIds.add(id);
+        return id;
+    }
+}